@@ -4,8 +4,16 @@ import java.io.BufferedWriter;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.json.JSONObject;
 
@@ -13,6 +21,7 @@ import Fandom.FandomSearch.FandomSearchResult;
 import FandomActivity.FandomActivity;
 import FandomActivity.FandomPost;
 import FandomActivity.FandomThread;
+import FandomTransport.FandomTransport;
 
 /**
  * The Fandom instance represents a Fandom community.
@@ -46,6 +55,16 @@ public class Fandom {
 	 */
 	public static boolean RESET_STORAGE = true;
 	
+	/**
+	 * The cache the site information of new {@link Fandom} instances is being read from (site information is not being cached if this value is {@code null}).
+	 * <p>Example:<br>
+	 * {@code Fandom.SITE_INFO_CACHE = new FandomSiteInfoCache(new File("siteinfo"), Duration.ofDays(1), true);}
+	 * @see FandomSiteInfoCache
+	 */
+	public static FandomSiteInfoCache SITE_INFO_CACHE = null;
+	
+	private static final ConcurrentHashMap<String, CompletableFuture<Fandom>> INSTANCES = new ConcurrentHashMap<>();
+	
 	public static final int NAMESPACE_MEDIA = -2;
 	public static final int NAMESPACE_SPECIAL = -1;
 	public static final int NAMESPACE_MAIN = 0;
@@ -65,6 +84,12 @@ public class Fandom {
 	public static final int NAMESPACE_CATEGORY = 14;
 	public static final int NAMESPACE_CATEGORY_TALK = 15;
 	
+	/**
+	 * The maximum amount of IDs or titles per API request (the MediaWiki limit for clients without {@code apihighlimits}).
+	 * @see #getPages(long...)
+	 */
+	public static final int BATCH_SIZE = 50;
+	
 	/**
 	 * The base URL of the Fandom including the server name and language (optional).
 	 * <p>Examples:<br>
@@ -108,6 +133,11 @@ public class Fandom {
 	 * @see #getUrl()
 	 */
 	public final String mainPageTitle;
+	/**
+	 * The transport all requests of this Fandom are being sent with.
+	 * @see #Fandom(String, FandomTransport)
+	 */
+	public final FandomTransport transport;
 	private String timeZone;
 	private String generator;
 	private String phpVersion;
@@ -121,6 +151,8 @@ public class Fandom {
 	private long minUploadChunkSize;
 	private String rightsInfoText;
 	private String rightsInfoUrl;
+	private volatile FandomEntityCache entityCache;
+	private volatile FandomNegativeCache negativeCache;
 	
 	/**
 	 * Creates a new Fandom instance.
@@ -135,8 +167,25 @@ public class Fandom {
 	 * @throws NotFoundException if the FANDOM couldn't be found
 	 * @throws RuntimeException if something else went wrong (set {@link #DEBUG} to {@code true} to receive more information)
 	 * @see #baseUrl
+	 * @see #Fandom(String, FandomTransport)
 	 */
 	public Fandom(String fandomUrl) {
+		this(fandomUrl, Navigator.getDefaultTransport());
+	}
+	
+	/**
+	 * Creates a new Fandom instance, which sends all of its requests with {@code transport}.
+	 * <p>This can be used to serve responses locally (see {@link FandomTransport.LocalTransport}) or to configure the connection of a single Fandom.
+	 * @param fandomUrl the server name and language (optional), see {@link #Fandom(String)}
+	 * @param transport the transport
+	 * @throws InvalidFormatException if {@code fandomUrl} does not match the regular expression or the length is larger than 50 characters or shorter than 3 characters
+	 * @throws NotFoundException if the FANDOM couldn't be found
+	 * @throws RuntimeException if something else went wrong (set {@link #DEBUG} to {@code true} to receive more information)
+	 * @see #transport
+	 */
+	public Fandom(String fandomUrl, FandomTransport transport) {
+		if(transport == null) throw new IllegalArgumentException("The transport can't be null");
+		this.transport = transport;
 		if(!Pattern.matches("[a-z-]+\\.fandom\\.com[/a-z-]*", fandomUrl)) throw new InvalidFormatException("Fandom-URL \"" + fandomUrl + "\" does not match the pattern \"fandom-name.fandom.com[/lang]\"");
 		id = fandomUrl.split(".fandom.com", 2)[0];
 		if(id.length() > 50) throw new InvalidFormatException("Fandom-ID (URL name) \"" + id + "\" can't be longer than 50 characters");
@@ -148,8 +197,9 @@ public class Fandom {
 		String icon = "";
 		String mainPageTitle = "";
 		try {
-			String text = Navigator.receiveTextFromWebsite("https://" + baseUrl + "/api.php?action=query&meta=siteinfo&siprop=general|rightsinfo&format=json");
-			JSONObject jsonObject = new JSONObject(text).getJSONObject("query").getJSONObject("general");
+			FandomSiteInfoCache siteInfoCache = SITE_INFO_CACHE;
+			JSONObject query = siteInfoCache != null ? siteInfoCache.get(baseUrl, transport) : transport.receiveJSONFromWebsite(getSiteInfoUrl(baseUrl)).getJSONObject("query");
+			JSONObject jsonObject = query.getJSONObject("general");
 			root = jsonObject.getString("servername");
 			name = jsonObject.getString("sitename");
 			lang = jsonObject.has("lang") ? jsonObject.getString("lang") : "en";
@@ -166,7 +216,7 @@ public class Fandom {
 			maxArticleSize = jsonObject.getLong("maxarticlesize");
 			maxUploadSize = jsonObject.getLong("maxuploadsize");
 			minUploadChunkSize = jsonObject.getLong("minuploadchunksize");
-			jsonObject = new JSONObject(text).getJSONObject("query").getJSONObject("rightsinfo");
+			jsonObject = query.getJSONObject("rightsinfo");
 			rightsInfoText = jsonObject.getString("text");
 			rightsInfoUrl = jsonObject.getString("url");
 		} catch(NotFoundException e) {
@@ -206,6 +256,55 @@ public class Fandom {
 		}
 	}
 	
+	/**
+	 * Returns the shared instance of a Fandom, creating it with the default transport the first time it is being requested.
+	 * <p>Unlike {@link #Fandom(String)}, this does not repeat the validation, the site information request and the storage
+	 * initialization for a Fandom that has been requested before, and the entity cache and the transport of the instance are being shared.
+	 * @param fandomUrl the server name and language (optional), see {@link #Fandom(String)}
+	 * @return the shared Fandom instance
+	 * @throws InvalidFormatException if {@code fandomUrl} does not match the regular expression or the length is larger than 50 characters or shorter than 3 characters
+	 * @throws NotFoundException if the FANDOM couldn't be found
+	 * @see #of(String, FandomTransport)
+	 */
+	static public Fandom of(String fandomUrl) {
+		return of(fandomUrl, Navigator.getDefaultTransport());
+	}
+	
+	/**
+	 * Returns the shared instance of a Fandom, creating it with {@code transport} the first time it is being requested.
+	 * <p>There is one shared instance per base URL, so {@code transport} is being ignored if the instance already exists.
+	 * Instances that could not be created are not being remembered.
+	 * @param fandomUrl the server name and language (optional), see {@link #Fandom(String)}
+	 * @param transport the transport (if the instance has to be created)
+	 * @return the shared Fandom instance
+	 * @throws InvalidFormatException if {@code fandomUrl} does not match the regular expression or the length is larger than 50 characters or shorter than 3 characters
+	 * @throws NotFoundException if the FANDOM couldn't be found
+	 * @see #of(String)
+	 */
+	static public Fandom of(String fandomUrl, FandomTransport transport) {
+		CompletableFuture<Fandom> created = new CompletableFuture<>();
+		CompletableFuture<Fandom> instance = INSTANCES.putIfAbsent(fandomUrl, created);
+		if(instance == null) {
+			try {
+				created.complete(new Fandom(fandomUrl, transport));
+			} catch(Throwable e) {
+				INSTANCES.remove(fandomUrl, created);
+				created.completeExceptionally(e);
+				throw e;
+			}
+			instance = created;
+		}
+		return FandomAsync.join(instance);
+	}
+	
+	/**
+	 * @param baseUrl the base URL of a Fandom
+	 * @return the URL of the site information (general and rights information)
+	 */
+	static String getSiteInfoUrl(String baseUrl) {
+		return "https://" + baseUrl + "/api.php?action=query&meta=siteinfo&siprop=general|rightsinfo&format=json";
+	}
+	
 	/**
 	 * Returns the rights info text.
 	 * @return rights info text
@@ -230,7 +329,7 @@ public class Fandom {
 	 * @see #getSearchUrl(String)
 	 */
 	public FandomSearchResult[] search(String argument) {
-		return search(argument);
+		return search(argument, null);
 	}
 	
 	/**
@@ -245,6 +344,18 @@ public class Fandom {
 		return new FandomSearch(options, this).search(argument);
 	}
 	
+	/**
+	 * Searches the Fandom for a specific argument and streams all results page by page.
+	 * @param argument the search argument
+	 * @param options search options (might be {@code null})
+	 * @return a lazy stream of results as {@link FandomSearchResult}
+	 * @see FandomSearch#stream(String)
+	 * @see #search(String, FandomSearchOptions)
+	 */
+	public Stream<FandomSearchResult> streamSearch(String argument, FandomSearchOptions options) {
+		return new FandomSearch(options, this).stream(argument);
+	}
+	
 	/**
 	 * Returns the search URL of the search page of {@code text}.
 	 * @param argument the search argument
@@ -260,6 +371,7 @@ public class Fandom {
 	/**
 	 * Returns Fandom statistics as {@link FandomStats}.
 	 * @return FandomStats Fandom statistics
+	 * @see FandomStatsCollector
 	 */
 	public FandomStats getStats() {
 		return new FandomStats(this);
@@ -279,45 +391,37 @@ public class Fandom {
 	 * Checks if the article {@code articleTitle} exists.
 	 * @param articleTitle the title of the article
 	 * @return whether the article exists
+	 * @see FandomPage#exists(String, Fandom)
 	 */
 	public boolean articleExists(String articleTitle) {
-		try {
-			getArticle(articleTitle);
-			return true;
-		} catch(Exception e) {
-			if(DEBUG) e.printStackTrace();
-			return false;
-		}
+		return FandomPage.exists(articleTitle, this);
 	}
 	
 	/**
-	 * Checks if the user {@code username} exists.
+	 * Checks if the user {@code username} exists (a single request, users known to be missing are being answered by the {@link #getNegativeCache()}).
 	 * @param username the username
 	 * @return whether the user exists
 	 */
 	public boolean userExists(String username) {
+		FandomNegativeCache cache = negativeCache;
+		if(cache != null && cache.isUserMissing(username)) return false;
 		try {
-			FandomUser fandomUser = new FandomUser(username, this);
-			return true;
+			if(!FandomUser.getUserIdsFromUsernames(List.of(username), this).isEmpty()) return true;
+			if(cache != null) cache.putUserMissing(username);
 		} catch(Exception e) {
 			if(DEBUG) e.printStackTrace();
-			return false;
 		}
+		return false;
 	}
 	
 	/**
 	 * Checks if the page with ID {@code pageId} exists.
 	 * @param pageId the page id
 	 * @return whether the page exists
+	 * @see FandomPage#exists(long, Fandom)
 	 */
 	public boolean pageExists(long pageId) {
-		try {
-			new FandomPage(pageId, this);
-			return true;
-		} catch(Exception e) {
-			if(DEBUG) e.printStackTrace();
-			return false;
-		}
+		return FandomPage.exists(pageId, this);
 	}
 	
 	/**
@@ -331,7 +435,8 @@ public class Fandom {
 	 * @see #getImage(String)
 	 */
 	public FandomPage getPage(String title) {
-		return new FandomPage(title, this);
+		FandomEntityCache cache = entityCache;
+		return cache != null ? cache.get(title, FandomPage.class, () -> new FandomPage(title, this)) : new FandomPage(title, this);
 	}
 	
 	/**
@@ -348,7 +453,91 @@ public class Fandom {
 	 * @see #getDiscussionThread(long)
 	 */
 	public FandomPage getPage(long id) {
-		return new FandomPage(id, this);
+		FandomEntityCache cache = entityCache;
+		return cache != null ? cache.get(id, FandomPage.class, () -> new FandomPage(id, this)) : new FandomPage(id, this);
+	}
+	
+	/**
+	 * Returns the pages with IDs {@code ids} as {@link FandomPage}s.
+	 * <p>The pages are being requested in batches of {@link #BATCH_SIZE} IDs, which are being sent concurrently.
+	 * @param ids the page IDs
+	 * @return the pages in the order of {@code ids} (pages which do not exist are being skipped)
+	 * @see #getPages(Collection)
+	 * @see #getPage(long)
+	 */
+	public FandomPage[] getPages(long... ids) {
+		ArrayList<CompletableFuture<List<FandomPage>>> batches = new ArrayList<>();
+		for(int start = 0; start<ids.length; start += BATCH_SIZE) {
+			long[] batch = Arrays.copyOfRange(ids, start, Math.min(start + BATCH_SIZE, ids.length));
+			StringBuilder pageIds = new StringBuilder();
+			for(long id : batch) pageIds.append(pageIds.length() > 0 ? "|" : "").append(id);
+			batches.add(FandomPage.queryInfoAsync("pageids=" + FandomParser.toURL(pageIds.toString(), true), this).thenApply(query -> {
+				JSONObject pages = query.getJSONObject("pages");
+				ArrayList<FandomPage> result = new ArrayList<>();
+				for(long id : batch) {
+					JSONObject page = pages.optJSONObject(id + "");
+					if(page != null && !page.has("missing") && !page.has("invalid")) result.add(new FandomPage(page, this));
+				}
+				return result;
+			}));
+		}
+		return joinPages(batches);
+	}
+	
+	/**
+	 * Returns the pages with titles {@code titles} as {@link FandomPage}s.
+	 * <p>The pages are being requested in batches of {@link #BATCH_SIZE} titles, which are being sent concurrently.
+	 * Redirects are being followed, like by {@link #getPage(String)}.
+	 * @param titles the page titles
+	 * @return the pages in the order of {@code titles} (pages which do not exist are being skipped)
+	 * @see #getPages(long...)
+	 * @see #getPage(String)
+	 */
+	public FandomPage[] getPages(Collection<String> titles) {
+		ArrayList<String> list = new ArrayList<>(titles);
+		ArrayList<CompletableFuture<List<FandomPage>>> batches = new ArrayList<>();
+		for(int start = 0; start<list.size(); start += BATCH_SIZE) {
+			List<String> batch = list.subList(start, Math.min(start + BATCH_SIZE, list.size()));
+			batches.add(FandomPage.queryInfoAsync("titles=" + FandomParser.toURL(String.join("|", batch), true) + "&redirects", this).thenApply(query -> {
+				HashMap<String, String> normalized = new HashMap<>(), redirects = new HashMap<>();
+				FandomPage.putAll(query.optJSONArray("normalized"), normalized);
+				FandomPage.putAll(query.optJSONArray("redirects"), redirects);
+				HashMap<String, JSONObject> pages = new HashMap<>();
+				JSONObject jsonObject = query.getJSONObject("pages");
+				Iterator<String> iterator = jsonObject.keys();
+				while(iterator.hasNext()) {
+					JSONObject page = jsonObject.getJSONObject(iterator.next());
+					pages.put(page.optString("title"), page);
+				}
+				ArrayList<FandomPage> result = new ArrayList<>();
+				for(String title : batch) {
+					String target = normalized.getOrDefault(title, title);
+					for(int i = 0; i<BATCH_SIZE && redirects.containsKey(target); i++) target = redirects.get(target);
+					JSONObject page = pages.get(target);
+					if(page != null && !page.has("missing") && !page.has("invalid")) result.add(new FandomPage(page, this));
+				}
+				return result;
+			}));
+		}
+		return joinPages(batches);
+	}
+	
+	private static FandomPage[] joinPages(List<CompletableFuture<List<FandomPage>>> batches) {
+		ArrayList<FandomPage> pages = new ArrayList<>();
+		for(CompletableFuture<List<FandomPage>> batch : batches) pages.addAll(FandomAsync.join(batch));
+		return pages.toArray(new FandomPage[0]);
+	}
+	
+	/**
+	 * Resolves many page titles to page IDs at once, following redirects.
+	 * Titles of pages which do not exist are being reported in {@link FandomTitleResolution#missing}.
+	 * @param titles the page titles
+	 * @return the resolution
+	 * @see FandomPage#getIdsFromTitles(Collection, boolean, Fandom)
+	 * @see #getPages(Collection)
+	 */
+	public FandomTitleResolution resolveTitles(Collection<String> titles) {
+		return FandomPage.getIdsFromTitles(titles, true, this);
 	}
 	
 	/**
@@ -361,7 +550,8 @@ public class Fandom {
 	 * @see #getPage(String)
 	 */
 	public FandomArticle getArticle(String title) {
-		return new FandomArticle(title, this);
+		FandomEntityCache cache = entityCache;
+		return cache != null ? cache.get(title, FandomArticle.class, () -> new FandomArticle(title, this)) : new FandomArticle(title, this);
 	}
 	
 	/**
@@ -374,7 +564,8 @@ public class Fandom {
 	 * @see #getPage(long)
 	 */
 	public FandomArticle getArticle(long id) {
-		return new FandomArticle(id, this);
+		FandomEntityCache cache = entityCache;
+		return cache != null ? cache.get(id, FandomArticle.class, () -> new FandomArticle(id, this)) : new FandomArticle(id, this);
 	}
 	
 	/**
@@ -403,6 +594,34 @@ public class Fandom {
 		return new FandomUser(id, this);
 	}
 	
+	/**
+	 * Returns the users named {@code names} as {@link FandomUser}s.
+	 * <p>The user IDs are being requested in batches of {@link #BATCH_SIZE} names, the users themselves are being requested concurrently.
+	 * User pages are not being loaded (see {@link FandomUser#getAsArticle()}).
+	 * @param names the usernames
+	 * @return the users in the order of {@code names} (users which do not exist are being skipped)
+	 * @see #getUser(String)
+	 */
+	public FandomUser[] getUsers(Collection<String> names) {
+		ArrayList<String> list = new ArrayList<>(new LinkedHashSet<>(names));
+		ArrayList<CompletableFuture<List<FandomUser>>> batches = new ArrayList<>();
+		for(int start = 0; start<list.size(); start += BATCH_SIZE) {
+			List<String> batch = list.subList(start, Math.min(start + BATCH_SIZE, list.size()));
+			batches.add(FandomUser.getUserIdsFromUsernamesAsync(batch, this).thenCompose(ids -> {
+				ArrayList<CompletableFuture<FandomUser>> users = new ArrayList<>();
+				for(long id : ids) users.add(transport.receiveJSONFromWebsiteAsync(FandomUser.getUserDataUrl(id, this)).thenApply(response -> new FandomUser(id, response, this)));
+				return CompletableFuture.allOf(users.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+					ArrayList<FandomUser> result = new ArrayList<>();
+					for(CompletableFuture<FandomUser> user : users) result.add(user.join());
+					return result;
+				});
+			}));
+		}
+		ArrayList<FandomUser> users = new ArrayList<>();
+		for(CompletableFuture<List<FandomUser>> batch : batches) users.addAll(FandomAsync.join(batch));
+		return users.toArray(new FandomUser[0]);
+	}
+	
 	/**
 	 * Returns the image with file name {@code fileName} as {@link FandomImage}.
 	 * @param fileName the file name
@@ -413,7 +632,8 @@ public class Fandom {
 	 * @see #getPage(String)
 	 */
 	public FandomImage getImage(String fileName) {
-		return new FandomImage(fileName, this);
+		FandomEntityCache cache = entityCache;
+		return cache != null ? cache.get(fileName, FandomImage.class, () -> new FandomImage(fileName, this)) : new FandomImage(fileName, this);
 	}
 	
 	/**
@@ -426,7 +646,64 @@ public class Fandom {
 	 * @see #getPage(long)
 	 */
 	public FandomImage getImage(long id) {
-		return new FandomImage(id, this);
+		FandomEntityCache cache = entityCache;
+		return cache != null ? cache.get(id, FandomImage.class, () -> new FandomImage(id, this)) : new FandomImage(id, this);
+	}
+	
+	/**
+	 * Sets the cache {@link #getPage(long)}, {@link #getArticle(long)}, {@link #getImage(long)} and their title variants are being served from.
+	 * <p>The cache is not being invalidated unless it is listening to the recent changes (see {@link FandomEntityCache}).
+	 * @param entityCache the cache or {@code null} to disable caching
+	 * @see #getEntityCache()
+	 */
+	public void setEntityCache(FandomEntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+	
+	/**
+	 * @return the entity cache (might be {@code null})
+	 * @see #setEntityCache(FandomEntityCache)
+	 */
+	public FandomEntityCache getEntityCache() {
+		return entityCache;
+	}
+	
+	/**
+	 * Sets the cache existence checks and page lookups remember missing pages and users with.
+	 * <p>Pages which are being created are not being forgotten before the time to live has passed unless the cache is listening to the recent changes (see {@link FandomNegativeCache}).
+	 * @param negativeCache the cache or {@code null} to disable caching
+	 * @see #getNegativeCache()
+	 */
+	public void setNegativeCache(FandomNegativeCache negativeCache) {
+		this.negativeCache = negativeCache;
+	}
+	
+	/**
+	 * @return the negative cache (might be {@code null})
+	 * @see #setNegativeCache(FandomNegativeCache)
+	 */
+	public FandomNegativeCache getNegativeCache() {
+		return negativeCache;
+	}
+	
+	/**
+	 * Returns the images with file names {@code fileNames} as built {@link FandomImage}s (see {@link FandomImage#build()}).
+	 * <p>The images are being requested in batches of {@link #BATCH_SIZE} file names, which are being sent concurrently.
+	 * @param fileNames the file names (including the "File:"-prefix)
+	 * @return the images in the order of {@code fileNames} (files which do not exist are being skipped)
+	 * @see #getImage(String)
+	 * @see FandomArticle#getBuiltImages()
+	 */
+	public FandomImage[] getImages(Collection<String> fileNames) {
+		ArrayList<String> list = new ArrayList<>(new LinkedHashSet<>(fileNames));
+		ArrayList<CompletableFuture<List<FandomImage>>> batches = new ArrayList<>();
+		for(int start = 0; start<list.size(); start += BATCH_SIZE) {
+			List<String> batch = list.subList(start, Math.min(start + BATCH_SIZE, list.size()));
+			batches.add(FandomImage.getImagesAsync(batch, this));
+		}
+		ArrayList<FandomImage> images = new ArrayList<>();
+		for(CompletableFuture<List<FandomImage>> batch : batches) images.addAll(FandomAsync.join(batch));
+		return images.toArray(new FandomImage[0]);
 	}
 	
 	/**
@@ -465,6 +742,18 @@ public class Fandom {
 		return new FandomThread(id, this);
 	}
 	
+	/**
+	 * Returns asynchronous versions of the getters of this Fandom.
+	 * <p>Example:<br>
+	 * {@code fandom.async().getPage(id).thenAccept(page -> ...)}
+	 * @return a {@link FandomAsync} instance
+	 * @see #getPage(long)
+	 * @see #getActivity()
+	 */
+	public FandomAsync async() {
+		return new FandomAsync(this);
+	}
+	
 	/**
 	 * @return a {@link FandomActivity.FandomActivity} instance
 	 */
@@ -484,7 +773,7 @@ public class Fandom {
 	 * @see #NAMESPACE_FILE
 	 */
 	public Element[] getNamespaces() {
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + baseUrl + "/api.php?action=query&meta=siteinfo&siprop=namespaces&format=json")).getJSONObject("query").getJSONObject("namespaces");
+		JSONObject jsonObject = transport.receiveJSONFromWebsite("https://" + baseUrl + "/api.php?action=query&meta=siteinfo&siprop=namespaces&format=json").getJSONObject("query").getJSONObject("namespaces");
 		ArrayList<Element> elements = new ArrayList<>();
 		Iterator<String> iterator = jsonObject.keys();
 		while(iterator.hasNext()) {
@@ -508,7 +797,7 @@ public class Fandom {
 	 * @see #NAMESPACE_USER
 	 */
 	public long getRandomPageId(int namespace) {
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + baseUrl + "/api.php?action=query&list=random&format=json&rnnamespace=" + namespace)).getJSONObject("query");
+		JSONObject jsonObject = transport.receiveJSONFromWebsite("https://" + baseUrl + "/api.php?action=query&list=random&format=json&rnnamespace=" + namespace).getJSONObject("query");
 		return jsonObject.getJSONArray("random").getJSONObject(0).getLong("id");
 	}
 	
@@ -518,7 +807,7 @@ public class Fandom {
 	 * @see #getRandomPageId(int)
 	 */
 	public long getRandomPageId() {
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + baseUrl + "/api.php?action=query&list=random&format=json")).getJSONObject("query");
+		JSONObject jsonObject = transport.receiveJSONFromWebsite("https://" + baseUrl + "/api.php?action=query&list=random&format=json").getJSONObject("query");
 		return jsonObject.getJSONArray("random").getJSONObject(0).getLong("id");
 	}
 	
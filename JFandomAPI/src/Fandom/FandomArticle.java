@@ -1,4 +1,7 @@
 package Fandom;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
 import org.json.JSONObject;
 
 /**
@@ -25,6 +28,8 @@ public class FandomArticle extends FandomPage {
 	private String[] images;
 	private FandomArticleSection[] sections;
 	private FandomArticleLanguage[] languages;
+	private byte[] wikitext;
+	private String html;
 	/**
 	 * Latest revision id.
 	 */
@@ -46,6 +51,16 @@ public class FandomArticle extends FandomPage {
 	 * @see #FandomArticle(String, Fandom, int)
 	 */
 	static public final int BUILD = 1;
+	/**
+	 * If BUILD_FULL has been chosen as build option, the whole article is being received with a single request.
+	 * Images, sections and languages will be generated and the content of the sections is being sliced out of the whole article
+	 * (by {@link FandomArticleSection#byteOffset}) instead of being requested section by section.
+	 * @see #BUILD
+	 * @see #DO_NOT_BUILD
+	 * @see #FandomArticle(long, Fandom, int)
+	 * @see #FandomArticle(String, Fandom, int)
+	 */
+	static public final int BUILD_FULL = 2;
 	
 	/**
 	 * Creates a new FandomArticle instance (with {@link DO_NOT_BUILD} as build option).
@@ -56,7 +71,7 @@ public class FandomArticle extends FandomPage {
 	 * @see #FandomArticle(long, Fandom, int)
 	 */
 	public FandomArticle(String title, Fandom fandom) {
-		this(getIdFromTitle(title, fandom), fandom, DO_NOT_BUILD);
+		this(getInfo(title, fandom), fandom, DO_NOT_BUILD);
 	}
 	
 	/**
@@ -65,12 +80,13 @@ public class FandomArticle extends FandomPage {
 	 * @param fandom the fandom
 	 * @param build whether images, sections and languages should be generated
 	 * @see #BUILD
+	 * @see #BUILD_FULL
 	 * @see #DO_NOT_BUILD
 	 * @see #build()
 	 * @see #FandomArticle(long, Fandom, int)
 	 */
 	public FandomArticle(String title, Fandom fandom, int build) {
-		this(getIdFromTitle(title, fandom), fandom, build);
+		this(getInfo(title, fandom), fandom, build);
 	}
 	
 	/**
@@ -91,21 +107,130 @@ public class FandomArticle extends FandomPage {
 	 * @param fandom the fandom
 	 * @param build whether images, sections and languages should be generated
 	 * @see #BUILD
+	 * @see #BUILD_FULL
 	 * @see #DO_NOT_BUILD
 	 * @see #build()
 	 * @see #FandomArticle(String, Fandom, int)
 	 */
 	public FandomArticle(long id, Fandom fandom, int build) {
-		super(id, fandom);
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=parse&pageid=" + id + "&prop=wikitext|text|revid&section=0&format=json")).getJSONObject("parse");
+		this(getInfo(id, fandom), fandom, build);
+	}
+	
+	private FandomArticle(JSONObject page, Fandom fandom, int build) {
+		this(page, fandom.transport.receiveJSONFromWebsite(getParseUrl(page.getLong("pageid"), build, fandom)), fandom, build);
+	}
+	
+	/**
+	 * Creates a new FandomArticle instance from a page of an info query and the response of {@link #getParseUrl(long, int, Fandom)}.
+	 * @param page the page (an element of {@code query.pages})
+	 * @param response the parse response
+	 * @param fandom the fandom
+	 * @param build whether images, sections and languages should be generated
+	 */
+	FandomArticle(JSONObject page, JSONObject response, Fandom fandom, int build) {
+		super(page, fandom);
+		JSONObject jsonObject = response.getJSONObject("parse");
 		revid = jsonObject.getLong("revid");
-		wikitextDescription = jsonObject.getJSONObject("wikitext").getString("*");
-		htmlDescription = jsonObject.getJSONObject("text").getString("*");
+		if(build == BUILD_FULL) {
+			try {
+				wikitext = jsonObject.getJSONObject("wikitext").getString("*").getBytes(StandardCharsets.UTF_8);
+				html = stripParserOutput(jsonObject.getJSONObject("text").getString("*"));
+				read(jsonObject);
+			} catch(Exception e) {
+				if(Fandom.DEBUG) e.printStackTrace();
+				throw newReadingException();
+			}
+			FandomArticleSection first = null;
+			for(FandomArticleSection section : sections) {
+				if(section.byteOffset >= 0 && section.byteOffset <= wikitext.length) {
+					first = section;
+					break;
+				}
+			}
+			wikitextDescription = new String(wikitext, 0, first != null ? (int) first.byteOffset : wikitext.length, StandardCharsets.UTF_8).stripTrailing();
+			int end = first != null ? headingStart(first) : -1;
+			int toc = html.indexOf("<div id=\"toc\"");
+			if(toc >= 0 && (end < 0 || toc < end)) end = toc;
+			htmlDescription = end >= 0 ? html.substring(0, end) : html;
+		} else {
+			wikitextDescription = jsonObject.getJSONObject("wikitext").getString("*");
+			htmlDescription = stripParserOutput(jsonObject.getJSONObject("text").getString("*"));
+		}
 		description = FandomParser.parse(wikitextDescription);
 		if(super.namespace != Fandom.NAMESPACE_MAIN && super.namespace != Fandom.NAMESPACE_USER) System.err.println("FandomPage with ID " + id + " and title \"" + title + "\" might not be a FandomArticle (namespace " + namespace + " is unequal to Fandom.NAMESPACE_MAIN " + Fandom.NAMESPACE_MAIN + " and Fandom.NAMESPACE_USER " + Fandom.NAMESPACE_USER + ").");
 		if(build == BUILD) build();
 	}
 	
+	/**
+	 * @param id the article's ID
+	 * @param build the build option
+	 * @param fandom the fandom
+	 * @return the parse URL the content of the article is being received from
+	 */
+	static String getParseUrl(long id, int build, Fandom fandom) {
+		if(build == BUILD_FULL) return "https://" + fandom.baseUrl + "/api.php?action=parse&pageid=" + id + "&prop=wikitext|text|revid|sections|displaytitle|images|langlinks&format=json";
+		return "https://" + fandom.baseUrl + "/api.php?action=parse&pageid=" + id + "&prop=wikitext|text|revid&section=0&format=json";
+	}
+	
+	/**
+	 * Removes the {@code mw-parser-output} element wrapping parsed HTML.
+	 * @param html the HTML of a parse response
+	 * @return the HTML without the wrapping element
+	 */
+	static String stripParserOutput(String html) {
+		html = html.trim();
+		if(html.startsWith("<div class=\"mw-parser-output\">") && html.endsWith("</div>")) return html.substring(html.indexOf('>') + 1, html.length() - 6);
+		return html;
+	}
+	
+	/**
+	 * Returns the wikitext of a section (including its subsections), sliced out of the whole article.
+	 * @param section the section
+	 * @return the wikitext (or {@code null} if the article has not been received as a whole or the section has been transcluded)
+	 * @see #BUILD_FULL
+	 */
+	String getSectionWikitext(FandomArticleSection section) {
+		if(wikitext == null || section.byteOffset < 0 || section.byteOffset > wikitext.length) return null;
+		FandomArticleSection next = getNextSection(section);
+		int end = next != null ? (int) next.byteOffset : wikitext.length;
+		return new String(wikitext, (int) section.byteOffset, end - (int) section.byteOffset, StandardCharsets.UTF_8).stripTrailing();
+	}
+	
+	/**
+	 * Returns the HTML of a section (including its subsections), sliced out of the whole article.
+	 * @param section the section
+	 * @return the HTML (or {@code null} if the article has not been received as a whole or the heading of the section can't be found)
+	 * @see #BUILD_FULL
+	 */
+	String getSectionHtml(FandomArticleSection section) {
+		if(html == null) return null;
+		int start = headingStart(section);
+		if(start < 0) return null;
+		FandomArticleSection next = getNextSection(section);
+		int end = next != null ? headingStart(next) : html.length();
+		return end > start ? html.substring(start, end) : html.substring(start);
+	}
+	
+	/**
+	 * @return the first following section which is not a subsection of {@code section} (or {@code null} if there is none)
+	 */
+	private FandomArticleSection getNextSection(FandomArticleSection section) {
+		boolean found = false;
+		for(FandomArticleSection s : sections) {
+			if(found && s.byteOffset > section.byteOffset && s.level <= section.level) return s;
+			if(s == section) found = true;
+		}
+		return null;
+	}
+	
+	/**
+	 * @return the index of the heading of {@code section} in the HTML of the whole article (or -1 if it can't be found)
+	 */
+	private int headingStart(FandomArticleSection section) {
+		int anchor = html.indexOf("id=\"" + section.anchor + "\"");
+		return anchor < 0 ? -1 : html.lastIndexOf("<h" + section.level, anchor);
+	}
+	
 	/**
 	 * Loads images, sections and languages.<p>
 	 * This method is only necessary if {@link #DO_NOT_BUILD} has been chosen as build option.
@@ -119,30 +244,38 @@ public class FandomArticle extends FandomPage {
 	 */
 	public FandomArticle build() {
 		try {
-			String text = Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=parse&pageid=" + id + "&prop=sections|displaytitle|images|langlinks&format=json");
-			JSONObject jsonObject = new JSONObject(text).getJSONObject("parse");
-			
-			images = new String[jsonObject.getJSONArray("images").length()];
-			for(int i = 0; i<images.length; i++) {
-				images[i] = jsonObject.getJSONArray("images").getString(i);
-			}
-			
-			sections = new FandomArticleSection[jsonObject.getJSONArray("sections").length()];
-			for(int i = 0; i<sections.length; i++) {
-				JSONObject section = jsonObject.getJSONArray("sections").getJSONObject(i);
-				sections[i] = new FandomArticleSection(section.getString("line"), Integer.parseInt(section.getString("index")), section.getInt("toclevel"), Integer.parseInt(section.getString("level")), section.getString("number"), section.getLong("byteoffset"), section.getString("anchor"), this);
-			}
-			
-			languages = new FandomArticleLanguage[jsonObject.getJSONArray("langlinks").length()];
-			for(int i = 0; i<languages.length; i++) {
-				JSONObject language = jsonObject.getJSONArray("langlinks").getJSONObject(i);
-				languages[i] = new FandomArticleLanguage(this, language.getString("lang"), language.getString("url"), language.getString("langname"), language.getString("autonym"), language.getString("*"));
-			}
-			
+			read(fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/api.php?action=parse&pageid=" + id + "&prop=sections|displaytitle|images|langlinks&format=json").getJSONObject("parse"));
 			return this;
 		} catch(Exception e) {
 			if(Fandom.DEBUG) e.printStackTrace();
-		} throw new ReadingException("Can't read the content of " + title + " (set Fandom.DEBUG to true to print the exact exception stack trace)\n(This exception might occur if the page is not really an article.)");
+		} throw newReadingException();
+	}
+	
+	private ReadingException newReadingException() {
+		return new ReadingException("Can't read the content of " + title + " (set Fandom.DEBUG to true to print the exact exception stack trace)\n(This exception might occur if the page is not really an article.)");
+	}
+	
+	/**
+	 * Reads images, sections and languages of a parse response.
+	 */
+	private void read(JSONObject jsonObject) {
+		images = new String[jsonObject.getJSONArray("images").length()];
+		for(int i = 0; i<images.length; i++) {
+			images[i] = jsonObject.getJSONArray("images").getString(i);
+		}
+		
+		sections = new FandomArticleSection[jsonObject.getJSONArray("sections").length()];
+		for(int i = 0; i<sections.length; i++) {
+			JSONObject section = jsonObject.getJSONArray("sections").getJSONObject(i);
+			String index = section.getString("index");
+			sections[i] = new FandomArticleSection(section.getString("line"), index.startsWith("T-") ? -Integer.parseInt(index.substring(2)) : Integer.parseInt(index), section.getInt("toclevel"), Integer.parseInt(section.getString("level")), section.getString("number"), section.optLong("byteoffset", -1), section.getString("anchor"), this);
+		}
+		
+		languages = new FandomArticleLanguage[jsonObject.getJSONArray("langlinks").length()];
+		for(int i = 0; i<languages.length; i++) {
+			JSONObject language = jsonObject.getJSONArray("langlinks").getJSONObject(i);
+			languages[i] = new FandomArticleLanguage(this, language.getString("lang"), language.getString("url"), language.getString("langname"), language.getString("autonym"), language.getString("*"));
+		}
 	}
 	
 	/**
@@ -162,10 +295,25 @@ public class FandomArticle extends FandomPage {
 	 * <b>Warning:</b> Might return {@code null} if {@link #build()} has not been executed and {@link #DO_NOT_BUILD} has been chosen as build option.
 	 * @param index the index
 	 * @see #getImages()
+	 * @see #getBuiltImages()
 	 * @return the image with the given index
 	 */
 	public FandomImage getImage(int index) {
-		return new FandomImage(images[index], fandom);
+		return new FandomImage("File:" + images[index], fandom);
+	}
+	
+	/**
+	 * Returns all images as built {@link FandomImage}s, requested in batches of {@link Fandom#BATCH_SIZE} images.<p>
+	 * <b>Warning:</b> Might return {@code null} if {@link #build()} has not been executed and {@link #DO_NOT_BUILD} has been chosen as build option.
+	 * @see #getImages()
+	 * @see Fandom#getImages(java.util.Collection)
+	 * @return all images (images which do not exist are being skipped)
+	 */
+	public FandomImage[] getBuiltImages() {
+		if(images == null) return null;
+		ArrayList<String> fileNames = new ArrayList<>();
+		for(String image : images) fileNames.add("File:" + image);
+		return fandom.getImages(fileNames);
 	}
 	
 	/**
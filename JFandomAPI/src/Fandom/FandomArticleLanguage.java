@@ -47,11 +47,11 @@ public class FandomArticleLanguage {
 	}
 	
 	/**
-	 * Returns the Fandom of the article.
+	 * Returns the Fandom of the article (the shared instance, see {@link Fandom#of(String, FandomTransport.FandomTransport)}).
 	 * @return the fandom
 	 */
 	public Fandom getLangFandom() {
-		return new Fandom(article.fandom.root + "/" + lang);
+		return Fandom.of(article.fandom.root + "/" + lang, article.fandom.transport);
 	}
 	
 	/**
@@ -8,7 +8,7 @@ public class FandomArticleSection {
 	 */
 	public final String title;
 	/**
-	 * The section's index.
+	 * The section's index (negative if the section has been transcluded, like -1 for {@code T-1}).
 	 */
 	public final int index;
 	/**
@@ -28,7 +28,7 @@ public class FandomArticleSection {
 	 */
 	public final String number;
 	/**
-	 * The section's offset in bytes.
+	 * The section's offset in bytes (in the wikitext of the article, -1 if the section has been transcluded).
 	 */
 	public final long byteOffset;
 	/**
@@ -64,34 +64,44 @@ public class FandomArticleSection {
 	
 	/**
 	 * @return the content as plain text
+	 * @see #getWikitextText()
 	 */
 	public String getPlainText() {
-		if(text == null) {
-			JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + article.fandom.baseUrl + "/api.php?action=parse&pageid=" + article.id + "&prop=wikitext&section=" + index + "&format=json")).getJSONObject("parse");
-			text = FandomParser.parse(jsonObject.getJSONObject("wikitext").getString("*"));
-		} return text;
+		if(text == null) text = FandomParser.parse(getWikitextText());
+		return text;
 	}
 	
 	/**
+	 * Returns the content as wikitext. If the article has been created with {@link FandomArticle#BUILD_FULL}, no request is necessary.
 	 * @return the content as wikitext
 	 */
 	public String getWikitextText() {
+		if(wikitextText == null) wikitextText = article.getSectionWikitext(this);
 		if(wikitextText == null) {
-			JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + article.fandom.baseUrl + "/api.php?action=parse&pageid=" + article.id + "&prop=wikitext&section=" + index + "&format=json")).getJSONObject("parse");
+			JSONObject jsonObject = article.fandom.transport.receiveJSONFromWebsite("https://" + article.fandom.baseUrl + "/api.php?action=parse&pageid=" + article.id + "&prop=wikitext&section=" + getIndexParameter() + "&format=json").getJSONObject("parse");
 			wikitextText = jsonObject.getJSONObject("wikitext").getString("*");
 		} return wikitextText;
 	}
 	
 	/**
+	 * Returns the content as HTML. If the article has been created with {@link FandomArticle#BUILD_FULL}, no request is necessary.
 	 * @return the content as HTML
 	 */
 	public String getHtmlText() {
+		if(htmlText == null) htmlText = article.getSectionHtml(this);
 		if(htmlText == null) {
-			JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + article.fandom.baseUrl + "/api.php?action=parse&pageid=" + article.id + "&prop=text&section=" + index + "&format=json")).getJSONObject("parse");
-			htmlText = jsonObject.getJSONObject("text").getString("*");
+			JSONObject jsonObject = article.fandom.transport.receiveJSONFromWebsite("https://" + article.fandom.baseUrl + "/api.php?action=parse&pageid=" + article.id + "&prop=text&section=" + getIndexParameter() + "&format=json").getJSONObject("parse");
+			htmlText = FandomArticle.stripParserOutput(jsonObject.getJSONObject("text").getString("*"));
 		} return htmlText;
 	}
 	
+	/**
+	 * @return the {@code section} parameter of this section ({@code T-1} for transcluded sections)
+	 */
+	private String getIndexParameter() {
+		return index >= 0 ? index + "" : "T-" + (-index);
+	}
+	
 	/**
 	 * @return the URL
 	 */
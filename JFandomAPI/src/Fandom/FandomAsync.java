@@ -0,0 +1,298 @@
+package Fandom;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.json.JSONObject;
+
+import FandomActivity.FandomActivity;
+import FandomActivity.FandomPost;
+import FandomActivity.FandomRecentChange;
+import FandomActivity.FandomThread;
+
+/**
+ * Asynchronous versions of the getters of {@link Fandom} and {@link FandomActivity}, returning {@link CompletableFuture}s.
+ * <p>Pages, articles, users, images, threads, posts and recent changes are being received without blocking any thread,
+ * so any amount of lookups can be pending at once. Only the recent forum, wall and article comment posts need multiple
+ * dependent blocking requests and are being loaded on the {@link #executor}.
+ * @author Mika Thein
+ * @see Fandom#async()
+ */
+public class FandomAsync {
+	
+	/**
+	 * The maximum amount of threads of the shared thread pool.
+	 */
+	public static final int MAX_THREADS = 4;
+	
+	static final ThreadPoolExecutor DEFAULT_EXECUTOR = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+		Thread t = new Thread(r, "JFandomAPI-async");
+		t.setDaemon(true);
+		return t;
+	});
+	
+	static {
+		DEFAULT_EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+	
+	/**
+	 * The Fandom.
+	 */
+	public final Fandom fandom;
+	/**
+	 * The executor blocking lookups are being run on.
+	 */
+	public final Executor executor;
+	
+	/**
+	 * Creates a new FandomAsync instance using a shared (daemon) thread pool of up to {@link #MAX_THREADS} threads.
+	 * @param fandom the Fandom
+	 * @see #FandomAsync(Fandom, Executor)
+	 * @see Fandom#async()
+	 */
+	public FandomAsync(Fandom fandom) {
+		this(fandom, DEFAULT_EXECUTOR);
+	}
+	
+	/**
+	 * Creates a new FandomAsync instance.
+	 * @param fandom the Fandom
+	 * @param executor the executor blocking lookups are being run on
+	 * @see #FandomAsync(Fandom)
+	 */
+	public FandomAsync(Fandom fandom, Executor executor) {
+		this.fandom = fandom;
+		this.executor = executor;
+	}
+	
+	/**
+	 * @param title the page title
+	 * @return a future completing with the page
+	 * @see Fandom#getPage(String)
+	 */
+	public CompletableFuture<FandomPage> getPage(String title) {
+		return cached(title, FandomPage.class, () -> FandomPage.getInfoAsync(title, fandom).thenApply(page -> new FandomPage(page, fandom)));
+	}
+	
+	/**
+	 * @param id the page ID
+	 * @return a future completing with the page
+	 * @see Fandom#getPage(long)
+	 */
+	public CompletableFuture<FandomPage> getPage(long id) {
+		return cached(id, FandomPage.class, () -> FandomPage.getInfoAsync(id, fandom).thenApply(page -> new FandomPage(page, fandom)));
+	}
+	
+	/**
+	 * @param title the article title
+	 * @return a future completing with the article
+	 * @see Fandom#getArticle(String)
+	 */
+	public CompletableFuture<FandomArticle> getArticle(String title) {
+		return cached(title, FandomArticle.class, () -> getArticle(FandomPage.getInfoAsync(title, fandom)));
+	}
+	
+	/**
+	 * @param id the page ID
+	 * @return a future completing with the article
+	 * @see Fandom#getArticle(long)
+	 */
+	public CompletableFuture<FandomArticle> getArticle(long id) {
+		return cached(id, FandomArticle.class, () -> getArticle(FandomPage.getInfoAsync(id, fandom)));
+	}
+	
+	private CompletableFuture<FandomArticle> getArticle(CompletableFuture<JSONObject> info) {
+		return info.thenCompose(page -> fandom.transport.receiveJSONFromWebsiteAsync(FandomArticle.getParseUrl(page.getLong("pageid"), FandomArticle.DO_NOT_BUILD, fandom))
+				.thenApply(response -> new FandomArticle(page, response, fandom, FandomArticle.DO_NOT_BUILD)));
+	}
+	
+	/**
+	 * @param name the username
+	 * @return a future completing with the user
+	 * @see Fandom#getUser(String)
+	 */
+	public CompletableFuture<FandomUser> getUser(String name) {
+		return FandomUser.getUserIdsFromUsernamesAsync(List.of(name), fandom).thenCompose(ids -> {
+			if(ids.isEmpty()) throw new NotFoundException("There is no user named \"" + name + "\"");
+			return getUser(ids.get(0));
+		});
+	}
+	
+	/**
+	 * @param id the user ID
+	 * @return a future completing with the user
+	 * @see Fandom#getUser(long)
+	 */
+	public CompletableFuture<FandomUser> getUser(long id) {
+		return fandom.transport.receiveJSONFromWebsiteAsync(FandomUser.getUserDataUrl(id, fandom)).thenApply(response -> new FandomUser(id, response, fandom));
+	}
+	
+	/**
+	 * @param fileName the file name
+	 * @return a future completing with the image
+	 * @see Fandom#getImage(String)
+	 */
+	public CompletableFuture<FandomImage> getImage(String fileName) {
+		return cached(fileName, FandomImage.class, () -> FandomPage.getInfoAsync(fileName, fandom).thenApply(page -> new FandomImage(page, fandom)));
+	}
+	
+	/**
+	 * @param id the file ID
+	 * @return a future completing with the image
+	 * @see Fandom#getImage(long)
+	 */
+	public CompletableFuture<FandomImage> getImage(long id) {
+		return cached(id, FandomImage.class, () -> FandomPage.getInfoAsync(id, fandom).thenApply(page -> new FandomImage(page, fandom)));
+	}
+	
+	/**
+	 * Does not block any thread while waiting for the response.
+	 * @param id the thread ID
+	 * @return a future completing with the thread
+	 * @see Fandom#getDiscussionThread(long)
+	 */
+	public CompletableFuture<FandomThread> getDiscussionThread(long id) {
+		return fandom.transport.receiveTextFromWebsiteAsync(FandomThread.getThreadUrl(id, fandom)).thenApply(json -> FandomThread.fromJSON(json, fandom));
+	}
+	
+	/**
+	 * Does not block any thread while waiting for the response.
+	 * @param postId the post ID
+	 * @return a future completing with the thread containing the post
+	 * @see Fandom#getDiscussionThreadByPostId(long)
+	 */
+	public CompletableFuture<FandomThread> getDiscussionThreadByPostId(long postId) {
+		return fandom.transport.receiveTextFromWebsiteAsync(FandomThread.getThreadByPostIdUrl(postId, fandom)).thenApply(json -> FandomThread.fromJSON(json, fandom));
+	}
+	
+	/**
+	 * @param id the post ID
+	 * @return a future completing with the post
+	 * @see Fandom#getDiscussionPost(long)
+	 */
+	public CompletableFuture<FandomPost> getDiscussionPost(long id) {
+		return fandom.transport.receiveJSONFromWebsiteAsync(FandomPost.getPostUrl(id, fandom)).thenApply(jsonObject -> FandomPost.fromJSON(jsonObject, fandom));
+	}
+	
+	/**
+	 * Does not block any thread while waiting for the response.
+	 * @param limit the max amount of recent changes (0 to 100)
+	 * @return a future completing with {@code limit} recent changes
+	 * @see FandomActivity#getRecentChanges(int)
+	 */
+	public CompletableFuture<FandomRecentChange[]> getRecentChanges(int limit) {
+		return getRecentChanges(null, null, limit);
+	}
+	
+	/**
+	 * Does not block any thread while waiting for the response. {@code author} and {@code page} can be set to {@code null} to be ignored.
+	 * @param author the Fandom user
+	 * @param page the Fandom page
+	 * @param limit the max amount of recent changes (0 to 100)
+	 * @return a future completing with {@code limit} recent changes by {@code author} on {@code page}
+	 * @see FandomActivity#getRecentChanges(FandomUser, FandomPage, int)
+	 */
+	public CompletableFuture<FandomRecentChange[]> getRecentChanges(FandomUser author, FandomPage page, int limit) {
+		return fandom.getActivity().getRecentChangesAsync(author, page, null, limit);
+	}
+	
+	/**
+	 * @param limit the max amount of forum posts (0 to 100)
+	 * @return a future completing with recent forum posts
+	 * @see FandomActivity#getRecentForumPosts(int)
+	 */
+	public CompletableFuture<FandomPost[]> getRecentForumPosts(int limit) {
+		return supply(() -> {
+			try {
+				return fandom.getActivity().getRecentForumPosts(limit);
+			} catch(Exception e) {
+				throw wrap(e);
+			}
+		});
+	}
+	
+	/**
+	 * @param limit the max amount of wall posts (0 to 100)
+	 * @return a future completing with recent wall posts
+	 * @see FandomActivity#getRecentWallPosts(int)
+	 */
+	public CompletableFuture<FandomPost[]> getRecentWallPosts(int limit) {
+		return supply(() -> {
+			try {
+				return fandom.getActivity().getRecentWallPosts(limit);
+			} catch(Exception e) {
+				throw wrap(e);
+			}
+		});
+	}
+	
+	/**
+	 * @param limit the max amount of article comments (0 to 100)
+	 * @return a future completing with recent article comments
+	 * @see FandomActivity#getRecentArticleComments(int)
+	 */
+	public CompletableFuture<FandomPost[]> getRecentArticleComments(int limit) {
+		return supply(() -> {
+			try {
+				return fandom.getActivity().getRecentArticleComments(limit);
+			} catch(Exception e) {
+				throw wrap(e);
+			}
+		});
+	}
+	
+	/**
+	 * @param limitForum the max amount of forum posts (0 to 100)
+	 * @param limitWall the max amount of wall posts (0 to 100)
+	 * @param limitArticleComments the max amount of article comments (0 to 100)
+	 * @return a future completing with recent posts
+	 * @see FandomActivity#getRecentPosts(int, int, int)
+	 */
+	public CompletableFuture<FandomPost[]> getRecentPosts(int limitForum, int limitWall, int limitArticleComments) {
+		return supply(() -> {
+			try {
+				return fandom.getActivity().getRecentPosts(limitForum, limitWall, limitArticleComments);
+			} catch(Exception e) {
+				throw wrap(e);
+			}
+		});
+	}
+	
+	private <T extends FandomPage> CompletableFuture<T> cached(long id, Class<T> type, Supplier<CompletableFuture<T>> loader) {
+		FandomEntityCache cache = fandom.getEntityCache();
+		return cache != null ? cache.getAsync(id, type, loader) : loader.get();
+	}
+	
+	private <T extends FandomPage> CompletableFuture<T> cached(String title, Class<T> type, Supplier<CompletableFuture<T>> loader) {
+		FandomEntityCache cache = fandom.getEntityCache();
+		return cache != null ? cache.getAsync(title, type, loader) : loader.get();
+	}
+	
+	private <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, executor);
+	}
+	
+	/**
+	 * Waits for a future and rethrows the exception it failed with.
+	 */
+	static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch(CompletionException e) {
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			if(e.getCause() instanceof Error) throw (Error) e.getCause();
+			throw e;
+		}
+	}
+	
+	private static RuntimeException wrap(Exception e) {
+		return e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+	}
+
+}
@@ -1,10 +1,28 @@
 package Fandom;
 
-import org.json.JSONArray;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
 import org.json.JSONObject;
 
 public class FandomCategory extends FandomPage {
 	
+	/**
+	 * The member type of pages.
+	 * @see #getMembers(String, int...)
+	 */
+	static public final String TYPE_PAGE = "page";
+	/**
+	 * The member type of subcategories.
+	 * @see #getMembers(String, int...)
+	 */
+	static public final String TYPE_SUBCAT = "subcat";
+	/**
+	 * The member type of files.
+	 * @see #getMembers(String, int...)
+	 */
+	static public final String TYPE_FILE = "file";
+	
 	/**
 	 * The size of the category.
 	 * @see #getPages()
@@ -36,7 +54,7 @@ public class FandomCategory extends FandomPage {
 		super(title, fandom);
 		if(super.namespace != Fandom.NAMESPACE_CATEGORY) Fandom.warn(title + " might not be a category");
 		try {
-			JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&pageids=" + super.id + "&prop=categoryinfo&format=json")).getJSONObject("query").getJSONObject("pages").getJSONObject(super.id + "").getJSONObject("categoryinfo");
+			JSONObject jsonObject = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&pageids=" + super.id + "&prop=categoryinfo&format=json").getJSONObject("query").getJSONObject("pages").getJSONObject(super.id + "").getJSONObject("categoryinfo");
 			size = jsonObject.optInt("size");
 			pages = jsonObject.optInt("pages");
 			files = jsonObject.optInt("files");
@@ -49,15 +67,36 @@ public class FandomCategory extends FandomPage {
 	
 	/**
 	 * Returns all pages of that category as {@link Element}, where the key is equals to the page title and the value is equal to the page ID (long).
+	 * <p>For large categories, {@link #streamMembers(String, int...)} should be preferred, since it does not hold all members in memory.
 	 * @return all pages of that category
+	 * @see #getMembers(String, int...)
 	 */
 	public Element[] getPages() {
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&list=categorymembers&cmpageid=" + super.id + "&format=json"));
-		if(jsonObject.has("error")) throw new ReadingException("Can't read categories: " + jsonObject.getJSONObject("error").getString("info"));
-		JSONArray jsonArray = jsonObject.getJSONObject("query").getJSONArray("categorymembers");
-		Element[] pages = new Element[jsonArray.length()];
-		for(int i = 0; i<pages.length; i++) pages[i] = new Element(jsonArray.getJSONObject(i).getString("title"), jsonArray.getJSONObject(i).getLong("pageid"));
-		return pages;
+		ArrayList<Element> pages = new ArrayList<>();
+		getMembers(null).forEachRemaining(pages::add);
+		return pages.toArray(new Element[0]);
+	}
+	
+	/**
+	 * Returns a lazy iterator over the members of that category. The members are being requested page by page, the next page is being requested while the current one is being consumed.
+	 * @param types the member types separated by '|' ({@link #TYPE_PAGE}, {@link #TYPE_SUBCAT} and/or {@link #TYPE_FILE}) or {@code null} for all types
+	 * @param namespaces the namespaces to include (all namespaces if none are given)
+	 * @return the members of that category
+	 * @see #streamMembers(String, int...)
+	 */
+	public FandomCategoryMembers getMembers(String types, int... namespaces) {
+		return new FandomCategoryMembers(this, types, namespaces);
+	}
+	
+	/**
+	 * Returns a lazy, sequential stream over the members of that category.
+	 * @param types the member types separated by '|' ({@link #TYPE_PAGE}, {@link #TYPE_SUBCAT} and/or {@link #TYPE_FILE}) or {@code null} for all types
+	 * @param namespaces the namespaces to include (all namespaces if none are given)
+	 * @return the members of that category
+	 * @see #getMembers(String, int...)
+	 */
+	public Stream<Element> streamMembers(String types, int... namespaces) {
+		return getMembers(types, namespaces).stream();
 	}
 
 }
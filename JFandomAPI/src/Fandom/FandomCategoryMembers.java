@@ -0,0 +1,87 @@
+package Fandom;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Lazily iterates over the members of a {@link FandomCategory} as {@link Element}, where the key is equals to the page title and the value is equal to the page ID (long).
+ * <p>The members are being requested page by page ({@code cmlimit=max}, following {@code cmcontinue}).
+ * While the members of one page are being consumed, the next page is already being requested.
+ * @author Mika Thein
+ * @see FandomCategory#getMembers(String, int...)
+ * @see FandomCategory#streamMembers(String, int...)
+ */
+public class FandomCategoryMembers implements Iterator<Element> {
+	
+	/**
+	 * The category.
+	 */
+	public final FandomCategory category;
+	private final String url;
+	private final ArrayDeque<Element> members = new ArrayDeque<>();
+	private CompletableFuture<JSONObject> next;
+	
+	/**
+	 * Creates a new FandomCategoryMembers instance. The first page is being requested immediately (without blocking).
+	 * @param category the category
+	 * @param types the member types separated by '|' ({@link FandomCategory#TYPE_PAGE}, {@link FandomCategory#TYPE_SUBCAT} and/or {@link FandomCategory#TYPE_FILE}) or {@code null} for all types
+	 * @param namespaces the namespaces to include (all namespaces if none are given)
+	 */
+	FandomCategoryMembers(FandomCategory category, String types, int... namespaces) {
+		this.category = category;
+		StringBuilder url = new StringBuilder("https://" + category.fandom.baseUrl + "/api.php?action=query&list=categorymembers&cmpageid=" + category.id + "&cmlimit=max&format=json");
+		if(types != null && !types.isEmpty()) url.append("&cmtype=").append(FandomParser.toURL(types, true));
+		if(namespaces != null && namespaces.length > 0) {
+			StringBuilder namespace = new StringBuilder();
+			for(int n : namespaces) namespace.append(namespace.length() > 0 ? "|" : "").append(n);
+			url.append("&cmnamespace=").append(FandomParser.toURL(namespace.toString(), true));
+		}
+		this.url = url.toString();
+		next = category.fandom.transport.receiveJSONFromWebsiteAsync(this.url);
+	}
+	
+	@Override
+	public synchronized boolean hasNext() {
+		while(members.isEmpty() && next != null) read(FandomAsync.join(next));
+		return !members.isEmpty();
+	}
+	
+	@Override
+	public synchronized Element next() {
+		if(!hasNext()) throw new NoSuchElementException();
+		return members.poll();
+	}
+	
+	/**
+	 * Adds the members of a received page and starts requesting the following page.
+	 * @param jsonObject the received page
+	 */
+	private void read(JSONObject jsonObject) {
+		if(jsonObject.has("error")) {
+			next = null;
+			throw new ReadingException("Can't read category members: " + jsonObject.getJSONObject("error").getString("info"));
+		}
+		JSONObject continuation = jsonObject.optJSONObject("continue");
+		next = continuation != null ? category.fandom.transport.receiveJSONFromWebsiteAsync(url + FandomParser.toContinuation(continuation)) : null;
+		JSONObject query = jsonObject.optJSONObject("query");
+		JSONArray jsonArray = query != null ? query.optJSONArray("categorymembers") : null;
+		if(jsonArray != null) for(int i = 0; i<jsonArray.length(); i++) members.add(new Element(jsonArray.getJSONObject(i).getString("title"), jsonArray.getJSONObject(i).getLong("pageid")));
+	}
+	
+	/**
+	 * @return a sequential stream over the remaining members
+	 */
+	public Stream<Element> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+}
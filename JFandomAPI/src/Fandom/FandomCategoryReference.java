@@ -0,0 +1,138 @@
+package Fandom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * A lightweight reference to a category of a {@link FandomPage}.
+ * <p>Creating a reference does not send any request. The counts of all categories of a page are being requested together
+ * (with a single request per {@link Fandom#BATCH_SIZE} categories) once the count of one of them is being read.
+ * @author Mika Thein
+ * @see FandomPage#categories
+ * @see #getAsCategory()
+ */
+public class FandomCategoryReference {
+	
+	/**
+	 * The title (including the "Category:"-prefix).
+	 */
+	public final String title;
+	/**
+	 * The Fandom.
+	 */
+	public final Fandom fandom;
+	private final FandomCategoryReference[] group;
+	private volatile boolean hydrated = false;
+	private int size;
+	private int pages;
+	private int files;
+	private int subcats;
+	
+	/**
+	 * Creates a new FandomCategoryReference instance.
+	 * @param title the title
+	 * @param fandom the Fandom
+	 * @param group the references whose counts are being requested together with the counts of this reference (including this reference)
+	 */
+	FandomCategoryReference(String title, Fandom fandom, FandomCategoryReference[] group) {
+		this.title = title;
+		this.fandom = fandom;
+		this.group = group;
+	}
+	
+	/**
+	 * Returns the category as {@link FandomCategory}.
+	 * @return the category
+	 * @throws NotFoundException if the category page does not exist
+	 */
+	public FandomCategory getAsCategory() {
+		return new FandomCategory(title, fandom);
+	}
+	
+	/**
+	 * @return the size of the category
+	 * @see FandomCategory#size
+	 */
+	public int getSize() {
+		hydrate();
+		return size;
+	}
+	
+	/**
+	 * @return the amount of pages within that category
+	 * @see FandomCategory#pages
+	 */
+	public int getPagesCount() {
+		hydrate();
+		return pages;
+	}
+	
+	/**
+	 * @return the amount of files within that category
+	 * @see FandomCategory#files
+	 */
+	public int getFilesCount() {
+		hydrate();
+		return files;
+	}
+	
+	/**
+	 * @return the amount of subcats within that category
+	 * @see FandomCategory#subcats
+	 */
+	public int getSubcatsCount() {
+		hydrate();
+		return subcats;
+	}
+	
+	/**
+	 * @return the URL
+	 */
+	public String getUrl() {
+		return "https://" + fandom.baseUrl + "/wiki/" + FandomParser.toURL(title, false);
+	}
+	
+	private void hydrate() {
+		if(hydrated) return;
+		synchronized(group) {
+			if(hydrated) return;
+			ArrayList<FandomCategoryReference> references = new ArrayList<>();
+			for(FandomCategoryReference reference : group) if(reference != null && !reference.hydrated) references.add(reference);
+			for(int start = 0; start<references.size(); start += Fandom.BATCH_SIZE) {
+				ArrayList<String> titles = new ArrayList<>();
+				for(FandomCategoryReference reference : references.subList(start, Math.min(start + Fandom.BATCH_SIZE, references.size()))) titles.add(reference.title);
+				JSONObject query = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&titles=" + FandomParser.toURL(String.join("|", titles), true) + "&prop=categoryinfo&format=json").getJSONObject("query");
+				HashMap<String, String> normalized = new HashMap<>();
+				JSONArray normalizations = query.optJSONArray("normalized");
+				if(normalizations != null) for(int i = 0; i<normalizations.length(); i++) normalized.put(normalizations.getJSONObject(i).getString("from"), normalizations.getJSONObject(i).getString("to"));
+				HashMap<String, JSONObject> infos = new HashMap<>();
+				JSONObject jsonObject = query.getJSONObject("pages");
+				Iterator<String> iterator = jsonObject.keys();
+				while(iterator.hasNext()) {
+					JSONObject page = jsonObject.getJSONObject(iterator.next());
+					if(page.has("categoryinfo")) infos.put(page.getString("title"), page.getJSONObject("categoryinfo"));
+				}
+				for(FandomCategoryReference reference : references.subList(start, Math.min(start + Fandom.BATCH_SIZE, references.size()))) {
+					JSONObject info = infos.get(normalized.getOrDefault(reference.title, reference.title));
+					if(info != null) {
+						reference.size = info.optInt("size");
+						reference.pages = info.optInt("pages");
+						reference.files = info.optInt("files");
+						reference.subcats = info.optInt("subcats");
+					}
+					reference.hydrated = true;
+				}
+			}
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return getUrl();
+	}
+
+}
@@ -0,0 +1,294 @@
+package Fandom;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import FandomActivity.FandomActivityAdapter;
+import FandomActivity.FandomRecentChange;
+
+/**
+ * An in-process cache of pages, articles and images, keyed by page ID and revision.
+ * <p>Entries do not expire. They are being removed once a recent change of their page with a different revision is being registered,
+ * so the cache should be added as listener to the {@link FandomActivity.FandomActivity} of its Fandom:
+ * <blockquote><pre>
+ * FandomEntityCache cache = new FandomEntityCache(1000);
+ * fandom.setEntityCache(cache);
+ * fandom.getActivity().addListener(cache);
+ * </pre></blockquote>
+ * The least recently used pages are being removed once there are more than {@link #maxEntries}.
+ * <p>Pages which have been loaded while their page is being invalidated are not being cached,
+ * as they might have been loaded before the change.
+ * @author Mika Thein
+ * @see Fandom#setEntityCache(FandomEntityCache)
+ * @see #invalidate(FandomRecentChange)
+ */
+public class FandomEntityCache extends FandomActivityAdapter {
+	
+	/**
+	 * The maximum amount of pages.
+	 */
+	public final int maxEntries;
+	
+	private final LinkedHashMap<Long, Entry> entries;
+	private final HashMap<String, Long> titles = new HashMap<>();
+	private final LinkedHashMap<Long, Invalidation> invalidations;
+	private final AtomicLong hits = new AtomicLong();
+	private long generation = 0;
+	private long forgottenGeneration = 0;
+	
+	/**
+	 * Creates a new FandomEntityCache instance.
+	 * @param maxEntries the maximum amount of pages
+	 */
+	public FandomEntityCache(int maxEntries) {
+		if(maxEntries < 1) throw new IllegalArgumentException("The maximum amount of entries has to be at least 1");
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+				if(size() <= FandomEntityCache.this.maxEntries) return false;
+				removeTitles(eldest.getValue());
+				return true;
+			}
+		};
+		this.invalidations = new LinkedHashMap<>() {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Invalidation> eldest) {
+				if(size() <= FandomEntityCache.this.maxEntries) return false;
+				forgottenGeneration = eldest.getValue().generation;
+				return true;
+			}
+		};
+	}
+	
+	/**
+	 * Returns the cached object of a page or loads (and caches) it.
+	 * @param <T> the type of the object
+	 * @param id the page ID
+	 * @param type the type of the object (like {@link FandomArticle})
+	 * @param loader loads the object if it is not cached (without holding the lock of this cache)
+	 * @return the object
+	 */
+	<T extends FandomPage> T get(long id, Class<T> type, Supplier<T> loader) {
+		return FandomAsync.join(getAsync(id, type, () -> CompletableFuture.completedFuture(loader.get())));
+	}
+	
+	/**
+	 * Returns the cached object of a page or loads (and caches) it.
+	 * @param <T> the type of the object
+	 * @param title the title the page has been requested with
+	 * @param type the type of the object (like {@link FandomArticle})
+	 * @param loader loads the object if it is not cached (without holding the lock of this cache)
+	 * @return the object
+	 */
+	<T extends FandomPage> T get(String title, Class<T> type, Supplier<T> loader) {
+		return FandomAsync.join(getAsync(title, type, () -> CompletableFuture.completedFuture(loader.get())));
+	}
+	
+	/**
+	 * Asynchronous version of {@link #get(long, Class, Supplier)}.
+	 * @param <T> the type of the object
+	 * @param id the page ID
+	 * @param type the type of the object (like {@link FandomArticle})
+	 * @param loader starts loading the object if it is not cached
+	 * @return a future completing with the object
+	 */
+	<T extends FandomPage> CompletableFuture<T> getAsync(long id, Class<T> type, Supplier<CompletableFuture<T>> loader) {
+		T page;
+		long start;
+		synchronized(this) {
+			page = get(id, type);
+			start = generation;
+		}
+		if(page != null) return CompletableFuture.completedFuture(page);
+		return loader.get().thenApply(loaded -> {
+			put(loaded, null, start);
+			return loaded;
+		});
+	}
+	
+	/**
+	 * Asynchronous version of {@link #get(String, Class, Supplier)}.
+	 * @param <T> the type of the object
+	 * @param title the title the page has been requested with
+	 * @param type the type of the object (like {@link FandomArticle})
+	 * @param loader starts loading the object if it is not cached
+	 * @return a future completing with the object
+	 */
+	<T extends FandomPage> CompletableFuture<T> getAsync(String title, Class<T> type, Supplier<CompletableFuture<T>> loader) {
+		T page;
+		long start;
+		synchronized(this) {
+			Long id = titles.get(title);
+			page = id != null ? get(id, type) : null;
+			start = generation;
+		}
+		if(page != null) return CompletableFuture.completedFuture(page);
+		return loader.get().thenApply(loaded -> {
+			put(loaded, title, start);
+			return loaded;
+		});
+	}
+	
+	private synchronized <T extends FandomPage> T get(long id, Class<T> type) {
+		Entry entry = entries.get(id);
+		FandomPage page = entry != null ? entry.objects.get(type) : null;
+		if(page == null) return null;
+		hits.incrementAndGet();
+		return type.cast(page);
+	}
+	
+	/**
+	 * Adds a page. Objects of older revisions of that page are being removed.
+	 * The page is not being added if it has been invalidated since {@code start} or if a newer revision has already been registered.
+	 * @param page the page
+	 * @param title the title the page has been requested with (might be {@code null})
+	 * @param start the invalidation generation before the page has been loaded
+	 */
+	private synchronized void put(FandomPage page, String title, long start) {
+		if(isStale(page, start)) return;
+		Entry entry = entries.get(page.id);
+		if(entry != null && entry.revisionId > page.latestRevisionId) return;
+		if(entry == null || entry.revisionId != page.latestRevisionId) {
+			if(entry != null) removeTitles(entry);
+			entry = new Entry(page.id, page.latestRevisionId);
+			entries.put(page.id, entry);
+		}
+		entry.objects.put(page.getClass(), page);
+		for(String t : new String[] {title, page.title}) {
+			if(t == null) continue;
+			entry.titles.add(t);
+			titles.put(t, page.id);
+		}
+	}
+	
+	/**
+	 * @param page the loaded page
+	 * @param start the invalidation generation before the page has been loaded
+	 * @return whether the page might be outdated
+	 */
+	private boolean isStale(FandomPage page, long start) {
+		Invalidation invalidation = invalidations.get(page.id);
+		if(invalidation == null) return start < forgottenGeneration;
+		if(page.latestRevisionId < invalidation.revisionId) return true;
+		return invalidation.generation > start && invalidation.revisionless;
+	}
+	
+	/**
+	 * Removes all objects of a page.
+	 * Pages which are being loaded at the moment are not going to be cached.
+	 * @param pageId the page ID
+	 * @see #invalidate(FandomRecentChange)
+	 */
+	public synchronized void invalidate(long pageId) {
+		registerInvalidation(pageId, 0);
+		remove(pageId);
+	}
+	
+	private void remove(long pageId) {
+		Entry entry = entries.remove(pageId);
+		if(entry != null) removeTitles(entry);
+	}
+	
+	/**
+	 * Registers an invalidation of a page, so that pages loaded before it are not being cached.
+	 * @param pageId the page ID
+	 * @param revisionId the new revision ID (or {@code 0} if unknown)
+	 */
+	private void registerInvalidation(long pageId, long revisionId) {
+		Invalidation previous = invalidations.remove(pageId);
+		long latestRevisionId = previous != null ? Math.max(previous.revisionId, revisionId) : revisionId;
+		invalidations.put(pageId, new Invalidation(++generation, latestRevisionId, revisionId <= 0));
+	}
+	
+	private void removeTitles(Entry entry) {
+		for(String title : entry.titles) titles.remove(title, entry.id);
+	}
+	
+	/**
+	 * Removes all objects of the page of a recent change, unless they already are of the new revision of that change.
+	 * Recent changes without a new revision (like moves or deletions) always remove the page.
+	 * Recent changes without a page ID (like deletion log entries) remove the page cached by their title.
+	 * @param recentChange the recent change
+	 * @return whether the page has been removed
+	 * @see #invalidate(long)
+	 */
+	public synchronized boolean invalidate(FandomRecentChange recentChange) {
+		if(recentChange.pageId <= 0) {
+			Long id = recentChange.title != null ? titles.get(recentChange.title) : null;
+			if(id == null) return false;
+			invalidate(id);
+			return true;
+		}
+		registerInvalidation(recentChange.pageId, recentChange.newRevisionId);
+		Entry entry = entries.get(recentChange.pageId);
+		if(entry == null || (recentChange.newRevisionId > 0 && entry.revisionId == recentChange.newRevisionId)) return false;
+		remove(recentChange.pageId);
+		return true;
+	}
+	
+	@Override
+	public void recentChangeHappened(FandomRecentChange recentChange) {
+		invalidate(recentChange);
+	}
+	
+	/**
+	 * Removes all pages.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		titles.clear();
+		invalidations.clear();
+		forgottenGeneration = generation;
+	}
+	
+	/**
+	 * @return the amount of pages
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * @return the amount of objects which have been returned from this cache
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+	
+	private static class Entry {
+		
+		private final long id;
+		private final long revisionId;
+		private final HashMap<Class<?>, FandomPage> objects = new HashMap<>();
+		private final HashSet<String> titles = new HashSet<>();
+		
+		private Entry(long id, long revisionId) {
+			this.id = id;
+			this.revisionId = revisionId;
+		}
+	
+	}
+	
+	private static class Invalidation {
+		
+		private final long generation;
+		private final long revisionId;
+		private final boolean revisionless;
+		
+		private Invalidation(long generation, long revisionId, boolean revisionless) {
+			this.generation = generation;
+			this.revisionId = revisionId;
+			this.revisionless = revisionless;
+		}
+	
+	}
+
+}
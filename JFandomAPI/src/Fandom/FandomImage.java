@@ -1,11 +1,20 @@
 package Fandom;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 public class FandomImage extends FandomPage {
 	
 	public static final int NAMESPACE = Fandom.NAMESPACE_FILE;
 	
+	private static final String IMAGE_INFO_PROPERTIES = "iiprop=url|timestamp|userid|comment|canonicaltitle|size|dimensions|sha1|mime|mediatype|metadata|bitdepth";
+	
 	private long size;
 	private int width;
 	private int height;
@@ -27,7 +36,7 @@ public class FandomImage extends FandomPage {
 	 * @see #build()
 	 */
 	public FandomImage(String fileName, Fandom fandom) {
-		this(getIdFromTitle(fileName, fandom), fandom);
+		this(getInfo(fileName, fandom), fandom);
 	}
 	
 	/**
@@ -39,7 +48,16 @@ public class FandomImage extends FandomPage {
 	 * @see #build()
 	 */
 	public FandomImage(long id, Fandom fandom) {
-		super(id, fandom);
+		this(getInfo(id, fandom), fandom);
+	}
+	
+	/**
+	 * Creates a new FandomImage instance from a page of an info query.
+	 * @param page the page (an element of {@code query.pages})
+	 * @param fandom the fandom
+	 */
+	FandomImage(JSONObject page, Fandom fandom) {
+		super(page, fandom);
 		if(super.namespace != Fandom.NAMESPACE_FILE) System.err.println("FandomPage with ID " + id + " and title \"" + title + "\" might not be a FandomImage (namespace " + namespace + " is unequal to Fandom.NAMESPACE_FILE " + Fandom.NAMESPACE_FILE + ").\nA Fandom.ReadingException might be thrown.");
 	}
 	
@@ -48,9 +66,17 @@ public class FandomImage extends FandomPage {
 	 * @return this FandomImage
 	 */
 	public FandomImage build() {
+		read(fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&pageids=" + id + "&prop=imageinfo&" + IMAGE_INFO_PROPERTIES + "&format=json").getJSONObject("query").getJSONObject("pages").optJSONObject(id + ""));
+		return this;
+	}
+	
+	/**
+	 * Reads the image information of a page of a {@code prop=imageinfo} response.
+	 * @param page the page (an element of {@code query.pages})
+	 */
+	private void read(JSONObject page) {
 		try {
-			JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&pageids=" + id + "&prop=imageinfo&iiprop=url|timestamp|userid|comment|canonicaltitle|size|dimensions|sha1|mime|mediatype|metadata|bitdepth&format=json")).getJSONObject("query").getJSONObject("pages").getJSONObject(id + "");
-			jsonObject = jsonObject.getJSONArray("imageinfo").getJSONObject(0);
+			JSONObject jsonObject = page.getJSONArray("imageinfo").getJSONObject(0);
 			size = jsonObject.getLong("size");
 			width = jsonObject.getInt("width");
 			height = jsonObject.getInt("height");
@@ -66,7 +92,37 @@ public class FandomImage extends FandomPage {
 			if(Fandom.DEBUG) e.printStackTrace();
 			throw new ReadingException("Can't read image information (set static Fandom.DEBUG to true to print the exact exception stack trace)\n(This exception might occur if the page is not really an image page.)");
 		}
-		return this;
+	}
+	
+	/**
+	 * Requests and builds up to {@link Fandom#BATCH_SIZE} images with a single {@code prop=info|categories|imageinfo} request
+	 * (and its continuations, if any). Does not block any thread while waiting for the response.
+	 * @param fileNames the file names (including the "File:"-prefix)
+	 * @param fandom the Fandom
+	 * @return a future completing with the built images in the order of {@code fileNames} (files which do not exist or have no image information are being skipped)
+	 * @see Fandom#getImages(java.util.Collection)
+	 */
+	static CompletableFuture<List<FandomImage>> getImagesAsync(List<String> fileNames, Fandom fandom) {
+		return FandomPage.queryInfoAsync("titles=" + FandomParser.toURL(String.join("|", fileNames), true), "|imageinfo&" + IMAGE_INFO_PROPERTIES, fandom).thenApply(query -> {
+			HashMap<String, String> normalized = new HashMap<>();
+			JSONArray normalizations = query.optJSONArray("normalized");
+			if(normalizations != null) for(int i = 0; i<normalizations.length(); i++) normalized.put(normalizations.getJSONObject(i).getString("from"), normalizations.getJSONObject(i).getString("to"));
+			HashMap<String, JSONObject> pages = new HashMap<>();
+			Iterator<String> iterator = query.getJSONObject("pages").keys();
+			while(iterator.hasNext()) {
+				JSONObject page = query.getJSONObject("pages").getJSONObject(iterator.next());
+				pages.put(page.optString("title"), page);
+			}
+			ArrayList<FandomImage> images = new ArrayList<>();
+			for(String fileName : fileNames) {
+				JSONObject page = pages.get(normalized.getOrDefault(fileName, fileName));
+				if(page == null || page.has("missing") || page.has("invalid") || !page.has("imageinfo")) continue;
+				FandomImage image = new FandomImage(page, fandom);
+				image.read(page);
+				images.add(image);
+			}
+			return images;
+		});
 	}
 	
 	/**
@@ -0,0 +1,157 @@
+package Fandom;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import FandomActivity.FandomActivityAdapter;
+import FandomActivity.FandomLogMove;
+import FandomActivity.FandomNew;
+import FandomActivity.FandomRecentChange;
+
+/**
+ * A bounded cache of pages and users which do not exist, used by existence checks and page lookups of a {@link Fandom}.
+ * <p>Missing pages and users are being remembered for {@link #ttl}. A page is being forgotten earlier once a {@link FandomNew} or a
+ * {@link FandomLogMove} (to its title) is being registered, if the cache is listening to the recent changes:
+ * <blockquote><pre>
+ * FandomNegativeCache cache = new FandomNegativeCache(10000, Duration.ofMinutes(5));
+ * fandom.setNegativeCache(cache);
+ * fandom.getActivity().addListener(cache);
+ * </pre></blockquote>
+ * The oldest entries are being removed once there are more than {@link #maxEntries}.
+ * @author Mika Thein
+ * @see Fandom#setNegativeCache(FandomNegativeCache)
+ * @see FandomPage#exists(String, Fandom)
+ */
+public class FandomNegativeCache extends FandomActivityAdapter {
+	
+	/**
+	 * The maximum amount of entries.
+	 */
+	public final int maxEntries;
+	/**
+	 * The time missing pages and users are being remembered for.
+	 */
+	public final Duration ttl;
+	
+	private final LinkedHashMap<String, Long> entries;
+	
+	/**
+	 * Creates a new FandomNegativeCache instance.
+	 * @param maxEntries the maximum amount of entries
+	 * @param ttl the time missing pages and users are being remembered for
+	 */
+	public FandomNegativeCache(int maxEntries, Duration ttl) {
+		if(maxEntries < 1) throw new IllegalArgumentException("The maximum amount of entries has to be at least 1");
+		if(ttl == null || ttl.isNegative()) throw new IllegalArgumentException("ttl must not be negative");
+		this.maxEntries = maxEntries;
+		this.ttl = ttl;
+		this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > FandomNegativeCache.this.maxEntries;
+			}
+		};
+	}
+	
+	/**
+	 * @param id the page ID
+	 * @return whether the page is known to be missing
+	 */
+	public boolean isMissing(long id) {
+		return contains("id:" + id);
+	}
+	
+	/**
+	 * @param title the page title
+	 * @return whether the page is known to be missing
+	 */
+	public boolean isMissing(String title) {
+		return contains("title:" + normalize(title));
+	}
+	
+	/**
+	 * @param username the username
+	 * @return whether the user is known to be missing
+	 */
+	public boolean isUserMissing(String username) {
+		return contains("user:" + normalize(username));
+	}
+	
+	void putMissing(long id) {
+		put("id:" + id);
+	}
+	
+	void putMissing(String title) {
+		put("title:" + normalize(title));
+	}
+	
+	void putUserMissing(String username) {
+		put("user:" + normalize(username));
+	}
+	
+	private synchronized boolean contains(String key) {
+		Long expiry = entries.get(key);
+		if(expiry == null) return false;
+		if(expiry > System.currentTimeMillis()) return true;
+		entries.remove(key);
+		return false;
+	}
+	
+	private synchronized void put(String key) {
+		entries.remove(key);
+		entries.put(key, System.currentTimeMillis() + ttl.toMillis());
+	}
+	
+	/**
+	 * Forgets that a page is missing.
+	 * @param title the page title
+	 * @see #invalidate(long)
+	 */
+	public synchronized void invalidate(String title) {
+		entries.remove("title:" + normalize(title));
+	}
+	
+	/**
+	 * Forgets that a page is missing.
+	 * @param id the page ID
+	 * @see #invalidate(String)
+	 */
+	public synchronized void invalidate(long id) {
+		entries.remove("id:" + id);
+	}
+	
+	@Override
+	public void recentChangeHappened(FandomRecentChange recentChange) {
+		if(recentChange instanceof FandomNew) {
+			if(recentChange.title != null) invalidate(recentChange.title);
+			invalidate(recentChange.pageId);
+		} else if(recentChange instanceof FandomLogMove && ((FandomLogMove) recentChange).targetTitle != null) invalidate(((FandomLogMove) recentChange).targetTitle);
+	}
+	
+	/**
+	 * Removes all entries.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+	
+	/**
+	 * @return the amount of entries (including expired ones)
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * Normalizes titles like MediaWiki does for most namespaces (underscores to spaces, first letter capitalized).
+	 * @param title the title
+	 * @return the normalized title
+	 */
+	private static String normalize(String title) {
+		String normalized = title.replace('_', ' ').trim();
+		return normalized.isEmpty() ? normalized : Character.toUpperCase(normalized.charAt(0)) + normalized.substring(1);
+	}
+
+}
@@ -1,7 +1,16 @@
 package Fandom;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import FandomActivity.FandomRecentChange;
@@ -66,9 +75,9 @@ public class FandomPage {
 	 */
 	public final String preload;
 	/**
-	 * The categories.
+	 * The categories (as lightweight references, see {@link FandomCategoryReference#getAsCategory()}).
 	 */
-	public final FandomCategory[] categories;
+	public final FandomCategoryReference[] categories;
 	/**
 	 * The URL.
 	 * @see #canonicalUrl
@@ -91,10 +100,20 @@ public class FandomPage {
 	 * @see #FandomPage(String, Fandom)
 	 */
 	public FandomPage(long id, Fandom fandom) {
-		this.id = id;
+		this(getInfo(id, fandom), fandom);
+	}
+	
+	/**
+	 * Creates a new FandomPage instance from a page of an info query.
+	 * @param jsonObject the page (an element of {@code query.pages})
+	 * @param fandom the Fandom
+	 * @throws NotFoundException if the page does not exist
+	 * @see #queryInfo(String, Fandom)
+	 */
+	FandomPage(JSONObject jsonObject, Fandom fandom) {
+		if(jsonObject.has("missing") || jsonObject.has("invalid")) throw new NotFoundException("There is no page \"" + jsonObject.optString("title", jsonObject.optString("pageid")) + "\"");
+		this.id = jsonObject.getLong("pageid");
 		this.fandom = fandom;
-		if(!exists(id, fandom)) throw new NotFoundException("There is no page with ID " + id);
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&pageids=" + id + "&prop=info|categories&inprop=url|displaytitle|protection|preload&format=json")).getJSONObject("query").getJSONObject("pages").getJSONObject(id + "");
 		this.title = jsonObject.optString("title");
 		this.namespace = jsonObject.optLong("ns");
 		displayTitle = jsonObject.optString("displaytitle");
@@ -110,22 +129,168 @@ public class FandomPage {
 			protections[i] = new FandomPageProtection(p.getString("type"), p.getString("level"), p.getString("expiry"), this);
 		}
 		preload = jsonObject.optString("preload");
-		if(jsonObject.has("categories") && namespace != Fandom.NAMESPACE_CATEGORY) {
-			categories = new FandomCategory[jsonObject.getJSONArray("categories").length()];
-			for(int i = 0; i<categories.length; i++) categories[i] = new FandomCategory(jsonObject.getJSONArray("categories").getJSONObject(i).optString("title"), fandom);
-		} else categories = new FandomCategory[0];
+		if(jsonObject.has("categories")) {
+			categories = new FandomCategoryReference[jsonObject.getJSONArray("categories").length()];
+			for(int i = 0; i<categories.length; i++) categories[i] = new FandomCategoryReference(jsonObject.getJSONArray("categories").getJSONObject(i).optString("title"), fandom, categories);
+		} else categories = new FandomCategoryReference[0];
 		canonicalUrl = jsonObject.optString("canonicalurl");
 		url = jsonObject.optString("fullurl");
 	}
 	
 	/**
-	 * Creates a new FandomPage instance.
+	 * Creates a new FandomPage instance. Redirects are being followed.
 	 * @param title the page title
 	 * @param fandom the Fandom
 	 * @see #FandomPage(long, Fandom)
 	 */
 	public FandomPage(String title, Fandom fandom) {
-		this(getIdFromTitle(title, fandom), fandom);
+		this(getInfo(title, fandom), fandom);
+	}
+	
+	/**
+	 * Requests the info of the page with ID {@code id} (a single request).
+	 * @param id the page ID
+	 * @param fandom the Fandom
+	 * @return the page (an element of {@code query.pages})
+	 * @throws NotFoundException if the page does not exist
+	 * @see #FandomPage(JSONObject, Fandom)
+	 */
+	static JSONObject getInfo(long id, Fandom fandom) {
+		FandomNegativeCache negativeCache = fandom.getNegativeCache();
+		if(negativeCache != null && negativeCache.isMissing(id)) throw new NotFoundException("There is no page with ID " + id);
+		return readInfo(id, queryInfo("pageids=" + id, fandom), fandom);
+	}
+	
+	/**
+	 * Asynchronous version of {@link #getInfo(long, Fandom)}, which does not block any thread while waiting for the response.
+	 * @param id the page ID
+	 * @param fandom the Fandom
+	 * @return a future completing with the page (an element of {@code query.pages})
+	 */
+	static CompletableFuture<JSONObject> getInfoAsync(long id, Fandom fandom) {
+		FandomNegativeCache negativeCache = fandom.getNegativeCache();
+		if(negativeCache != null && negativeCache.isMissing(id)) return CompletableFuture.failedFuture(new NotFoundException("There is no page with ID " + id));
+		return queryInfoAsync("pageids=" + id, fandom).thenApply(query -> readInfo(id, query, fandom));
+	}
+	
+	private static JSONObject readInfo(long id, JSONObject query, Fandom fandom) {
+		JSONObject page = query.getJSONObject("pages").optJSONObject(id + "");
+		if(page == null || page.has("missing") || page.has("invalid")) {
+			FandomNegativeCache negativeCache = fandom.getNegativeCache();
+			if(negativeCache != null) negativeCache.putMissing(id);
+			throw new NotFoundException("There is no page with ID " + id);
+		}
+		return page;
+	}
+	
+	/**
+	 * Requests the info of the page with title {@code title} (a single request). Redirects are being followed.
+	 * @param title the page title
+	 * @param fandom the Fandom
+	 * @return the page (an element of {@code query.pages})
+	 * @throws NotFoundException if the page does not exist
+	 * @see #FandomPage(JSONObject, Fandom)
+	 */
+	static JSONObject getInfo(String title, Fandom fandom) {
+		FandomNegativeCache negativeCache = fandom.getNegativeCache();
+		if(negativeCache != null && negativeCache.isMissing(title)) throw new NotFoundException("There is no page with title \"" + title + "\"");
+		return readInfo(title, queryInfo("titles=" + FandomParser.toURL(title, true) + "&redirects", fandom), fandom);
+	}
+	
+	/**
+	 * Asynchronous version of {@link #getInfo(String, Fandom)}, which does not block any thread while waiting for the response.
+	 * @param title the page title
+	 * @param fandom the Fandom
+	 * @return a future completing with the page (an element of {@code query.pages})
+	 */
+	static CompletableFuture<JSONObject> getInfoAsync(String title, Fandom fandom) {
+		FandomNegativeCache negativeCache = fandom.getNegativeCache();
+		if(negativeCache != null && negativeCache.isMissing(title)) return CompletableFuture.failedFuture(new NotFoundException("There is no page with title \"" + title + "\""));
+		return queryInfoAsync("titles=" + FandomParser.toURL(title, true) + "&redirects", fandom).thenApply(query -> readInfo(title, query, fandom));
+	}
+	
+	private static JSONObject readInfo(String title, JSONObject query, Fandom fandom) {
+		JSONObject pages = query.getJSONObject("pages");
+		Iterator<String> iterator = pages.keys();
+		JSONObject page = iterator.hasNext() ? pages.getJSONObject(iterator.next()) : null;
+		if(page == null || page.has("missing") || page.has("invalid")) {
+			FandomNegativeCache negativeCache = fandom.getNegativeCache();
+			if(negativeCache != null) negativeCache.putMissing(title);
+			throw new NotFoundException("There is no page with title \"" + title + "\"");
+		}
+		return page;
+	}
+	
+	/**
+	 * Requests the info (and categories) of one or several pages, following the continuation of the categories.
+	 * @param pages the page parameter, like {@code pageids=1|2|3} or {@code titles=A|B|C} (URL encoded)
+	 * @param fandom the Fandom
+	 * @return the {@code query} object of the response, containing all categories of every page
+	 * @see #FandomPage(JSONObject, Fandom)
+	 */
+	static JSONObject queryInfo(String pages, Fandom fandom) {
+		String url = getInfoUrl(pages, "", fandom);
+		JSONObject response = fandom.transport.receiveJSONFromWebsite(url);
+		JSONObject query = response.getJSONObject("query");
+		while(response.has("continue")) {
+			response = fandom.transport.receiveJSONFromWebsite(url + FandomParser.toContinuation(response.getJSONObject("continue")));
+			addContinued(query, response);
+		}
+		return query;
+	}
+	
+	/**
+	 * Asynchronous version of {@link #queryInfo(String, Fandom)}, which does not block any thread while waiting for the responses.
+	 * @param pages the page parameter, like {@code pageids=1|2|3} or {@code titles=A|B|C} (URL encoded)
+	 * @param fandom the Fandom
+	 * @return a future completing with the {@code query} object of the response, containing all categories of every page
+	 */
+	static CompletableFuture<JSONObject> queryInfoAsync(String pages, Fandom fandom) {
+		return queryInfoAsync(pages, "", fandom);
+	}
+	
+	/**
+	 * Asynchronous version of {@link #queryInfo(String, Fandom)} requesting further properties with the same request,
+	 * which does not block any thread while waiting for the responses.
+	 * @param pages the page parameter, like {@code pageids=1|2|3} or {@code titles=A|B|C} (URL encoded)
+	 * @param properties further properties and their parameters, like {@code |imageinfo&iiprop=url} (or an empty string)
+	 * @param fandom the Fandom
+	 * @return a future completing with the {@code query} object of the response, containing all categories (and image information) of every page
+	 */
+	static CompletableFuture<JSONObject> queryInfoAsync(String pages, String properties, Fandom fandom) {
+		String url = getInfoUrl(pages, properties, fandom);
+		return fandom.transport.receiveJSONFromWebsiteAsync(url).thenCompose(response -> continueInfoAsync(url, response.getJSONObject("query"), response, fandom));
+	}
+	
+	private static CompletableFuture<JSONObject> continueInfoAsync(String url, JSONObject query, JSONObject response, Fandom fandom) {
+		if(!response.has("continue")) return CompletableFuture.completedFuture(query);
+		return fandom.transport.receiveJSONFromWebsiteAsync(url + FandomParser.toContinuation(response.getJSONObject("continue"))).thenCompose(continued -> {
+			addContinued(query, continued);
+			return continueInfoAsync(url, query, continued, fandom);
+		});
+	}
+	
+	private static String getInfoUrl(String pages, String properties, Fandom fandom) {
+		return "https://" + fandom.baseUrl + "/api.php?action=query&" + pages + "&prop=info|categories" + properties + "&inprop=url|displaytitle|protection|preload&cllimit=max&format=json";
+	}
+	
+	/**
+	 * Adds the categories (and image information) of a continued info response to the pages of the first response.
+	 */
+	private static void addContinued(JSONObject query, JSONObject response) {
+		JSONObject continued = response.getJSONObject("query").getJSONObject("pages");
+		Iterator<String> iterator = continued.keys();
+		while(iterator.hasNext()) {
+			String key = iterator.next();
+			JSONObject page = query.getJSONObject("pages").optJSONObject(key);
+			if(page == null) continue;
+			for(String property : new String[] {"categories", "imageinfo"}) {
+				JSONArray values = continued.getJSONObject(key).optJSONArray(property);
+				if(values == null) continue;
+				if(!page.has(property)) page.put(property, new JSONArray());
+				for(int i = 0; i<values.length(); i++) page.getJSONArray(property).put(values.get(i));
+			}
+		}
 	}
 	
 	/**
@@ -150,53 +315,114 @@ public class FandomPage {
 	}
 	
 	/**
-	 * Returns the page ID of page with title {@code title}.
+	 * Returns the page ID of page with title {@code title}. Redirects are not being followed.
 	 * @param title the page title
 	 * @param fandom the Fandom
 	 * @return the page ID
 	 * @throws NotFoundException if the given page does not exist
+	 * @see #getIdsFromTitles(Collection, boolean, Fandom)
 	 */
 	static public long getIdFromTitle(String title, Fandom fandom) {
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=parse&page=" + FandomParser.toURL(title, true) + "&prop=displaytitle&format=json"));
-		try {
-			return jsonObject.getJSONObject("parse").getLong("pageid");
-		} catch(Exception e) {
-			throw new NotFoundException("There is no page with title \"" + title + "\"\nFANDOM error info: " + jsonObject.getJSONObject("error").getString("info"));
+		return getIdsFromTitles(List.of(title), false, fandom).getId(title);
+	}
+	
+	/**
+	 * Returns the page IDs of many pages at once.
+	 * <p>The titles are being requested in batches of {@link Fandom#BATCH_SIZE}, which are being sent concurrently.
+	 * The normalizations of the API (like {@code foo_bar} to {@code Foo bar}) are being applied.
+	 * Titles of pages which do not exist are being collected in {@link FandomTitleResolution#missing} instead of throwing an exception.
+	 * @param titles the page titles
+	 * @param followRedirects whether the IDs of the redirect targets should be returned (instead of the IDs of the redirect pages)
+	 * @param fandom the Fandom
+	 * @return the resolution
+	 * @see #getIdFromTitle(String, Fandom)
+	 * @see Fandom#resolveTitles(Collection)
+	 */
+	static public FandomTitleResolution getIdsFromTitles(Collection<String> titles, boolean followRedirects, Fandom fandom) {
+		ArrayList<String> list = new ArrayList<>(new LinkedHashSet<>(titles));
+		ArrayList<CompletableFuture<JSONObject>> batches = new ArrayList<>();
+		for(int start = 0; start<list.size(); start += Fandom.BATCH_SIZE) {
+			String url = "https://" + fandom.baseUrl + "/api.php?action=query&titles=" + FandomParser.toURL(String.join("|", list.subList(start, Math.min(start + Fandom.BATCH_SIZE, list.size()))), true) + (followRedirects ? "&redirects" : "") + "&format=json";
+			batches.add(fandom.transport.receiveJSONFromWebsiteAsync(url).thenApply(response -> response.getJSONObject("query")));
+		}
+		HashMap<String, String> normalized = new HashMap<>(), redirects = new HashMap<>();
+		HashMap<String, Long> pageIds = new HashMap<>();
+		for(CompletableFuture<JSONObject> batch : batches) {
+			JSONObject query = FandomAsync.join(batch);
+			putAll(query.optJSONArray("normalized"), normalized);
+			putAll(query.optJSONArray("redirects"), redirects);
+			JSONObject pages = query.optJSONObject("pages");
+			if(pages == null) continue;
+			Iterator<String> iterator = pages.keys();
+			while(iterator.hasNext()) {
+				JSONObject page = pages.getJSONObject(iterator.next());
+				if(!page.has("missing") && !page.has("invalid")) pageIds.put(page.getString("title"), page.getLong("pageid"));
+			}
+		}
+		LinkedHashMap<String, Long> ids = new LinkedHashMap<>();
+		LinkedHashMap<String, String> resolved = new LinkedHashMap<>();
+		ArrayList<String> missing = new ArrayList<>();
+		for(String title : list) {
+			String target = normalized.getOrDefault(title, title);
+			for(int i = 0; i<Fandom.BATCH_SIZE && redirects.containsKey(target); i++) target = redirects.get(target);
+			resolved.put(title, target);
+			Long id = pageIds.get(target);
+			if(id != null) ids.put(title, id);
+			else missing.add(title);
 		}
+		return new FandomTitleResolution(ids, resolved, missing);
+	}
+	
+	/**
+	 * Adds the mappings (from {@code from} to {@code to}) of a {@code normalized} or {@code redirects} array of a query.
+	 * @param mappings the array (might be {@code null})
+	 * @param map the map
+	 */
+	static void putAll(JSONArray mappings, HashMap<String, String> map) {
+		if(mappings == null) return;
+		for(int i = 0; i<mappings.length(); i++) map.put(mappings.getJSONObject(i).getString("from"), mappings.getJSONObject(i).getString("to"));
 	}
 	
 	/**
-	 * Whether a page with the ID {@code id} exists.
+	 * Whether a page with the ID {@code id} exists (a single {@code prop=info} request, pages known to be missing are being answered by the {@link Fandom#getNegativeCache()}).
 	 * @param id the page ID
 	 * @param fandom the Fandom
 	 * @see #exists(String, Fandom)
 	 * @return whether the given page exists
 	 */
 	static public boolean exists(long id, Fandom fandom) {
+		FandomNegativeCache negativeCache = fandom.getNegativeCache();
+		if(negativeCache != null && negativeCache.isMissing(id)) return false;
 		try {
-			new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=parse&pageid=" + id + "&prop=displaytitle&format=json")).getJSONObject("parse").getString("title");
-			return true;
+			JSONObject page = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&pageids=" + id + "&prop=info&format=json").getJSONObject("query").getJSONObject("pages").optJSONObject(id + "");
+			if(page != null && !page.has("missing") && !page.has("invalid")) return true;
+			if(negativeCache != null) negativeCache.putMissing(id);
 		} catch(Exception e) {
 			if(Fandom.DEBUG) e.printStackTrace();
-			return false;
 		}
+		return false;
 	}
 	
 	/**
-	 * Whether a page with the title {@code title} exists.
+	 * Whether a page with the title {@code title} exists (a single {@code prop=info} request, pages known to be missing are being answered by the {@link Fandom#getNegativeCache()}).
 	 * @param title the page title
 	 * @param fandom the Fandom
 	 * @see #exists(long, Fandom)
 	 * @return whether the given page exists
 	 */
 	static public boolean exists(String title, Fandom fandom) {
+		FandomNegativeCache negativeCache = fandom.getNegativeCache();
+		if(negativeCache != null && negativeCache.isMissing(title)) return false;
 		try {
-			new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=parse&page=" + title + "&prop=displaytitle&format=json")).getJSONObject("parse").getString("title");
-			return true;
+			JSONObject pages = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&titles=" + FandomParser.toURL(title, true) + "&prop=info&format=json").getJSONObject("query").getJSONObject("pages");
+			Iterator<String> iterator = pages.keys();
+			JSONObject page = iterator.hasNext() ? pages.getJSONObject(iterator.next()) : null;
+			if(page != null && !page.has("missing") && !page.has("invalid")) return true;
+			if(negativeCache != null) negativeCache.putMissing(title);
 		} catch(Exception e) {
 			if(Fandom.DEBUG) e.printStackTrace();
-			return false;
 		}
+		return false;
 	}
 	
 	@Override
@@ -2,6 +2,9 @@ package Fandom;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import org.json.JSONObject;
 
 /**
  * Parses text like wikitext or URL text.
@@ -26,6 +29,22 @@ public class FandomParser {
 		}
 	}
 	
+	/**
+	 * Converts the {@code continue} object of an API response into URL parameters (each starting with {@code &}),
+	 * which request the next part of the response if they are being appended to the original URL.
+	 * @param continuation the {@code continue} object
+	 * @return the URL parameters
+	 */
+	static public String toContinuation(JSONObject continuation) {
+		StringBuilder parameters = new StringBuilder();
+		Iterator<String> iterator = continuation.keys();
+		while(iterator.hasNext()) {
+			String key = iterator.next();
+			parameters.append('&').append(key).append('=').append(toURL(String.valueOf(continuation.get(key)), true));
+		}
+		return parameters.toString();
+	}
+	
 	/**
 	 * Capitalises every character after a ':', '/', '_', '-' or a ' '.
 	 * @see #capitalise(String, String)
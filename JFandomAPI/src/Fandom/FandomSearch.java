@@ -1,5 +1,7 @@
 package Fandom;
 
+import java.util.stream.Stream;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -8,6 +10,7 @@ import org.json.JSONObject;
  * @author Mika Thein
  * @see #FandomSearch(FandomSearchOptions, Fandom)
  * @see #search(String)
+ * @see #stream(String)
  */
 public class FandomSearch {
 	
@@ -33,42 +36,80 @@ public class FandomSearch {
 	}
 	
 	/**
-	 * Searches the Fandom.
+	 * Searches the Fandom (a single request).
 	 * @param text search term
 	 * @return the results as a {@link FandomSearchResult} array
+	 * @see #stream(String)
 	 */
 	public FandomSearchResult[] search(String text) {
 		try {
-			String result = Navigator.receiveTextFromWebsite(buildUrl(text));
-			JSONArray jsonArray = new JSONObject(result).getJSONObject("query").getJSONArray("search");
+			JSONArray jsonArray = fandom.transport.receiveJSONFromWebsite(buildUrl(text) + getOffsetParameter()).getJSONObject("query").getJSONArray("search");
 			FandomSearchResult[] results = new FandomSearchResult[jsonArray.length()];
-			for(int i = 0; i<jsonArray.length(); i++) {
-				JSONObject jsonObject = jsonArray.getJSONObject(i);
-				String title = jsonObject.getString("title");
-				int namespace = jsonObject.getInt("ns");
-				long size = jsonObject.getLong("size");
-				long wordCount = jsonObject.getLong("wordcount");
-				String timestamp = jsonObject.getString("timestamp");
-				results[i] = new FandomSearchResult(title, jsonObject.getLong("pageid"), namespace, size, wordCount, timestamp, fandom);
-			} return results;
+			for(int i = 0; i<jsonArray.length(); i++) results[i] = read(jsonArray.getJSONObject(i));
+			return results;
 		} catch(Exception e) {
 			if(Fandom.DEBUG) e.printStackTrace();
 		} Fandom.warn("Caught an exception while looking for results. Something might went wrong.\nSet static boolean Fandom.DEBUG to true to print the exact stack trace");
 		return new FandomSearchResult[0];
 	}
 	
+	/**
+	 * Returns a lazy iterator over all results, following the continuation page by page.
+	 * The next page is being requested while the current one is being consumed, so only about two pages are being held in memory.
+	 * @param text search term
+	 * @return the results
+	 * @see #stream(String)
+	 * @see #search(String)
+	 */
+	public FandomSearchResults iterate(String text) {
+		return new FandomSearchResults(this, buildUrl(text), getOffsetParameter());
+	}
+	
+	/**
+	 * Returns a lazy, sequential stream over all results, following the continuation page by page.
+	 * @param text search term
+	 * @return the results
+	 * @see #iterate(String)
+	 * @see #search(String)
+	 */
+	public Stream<FandomSearchResult> stream(String text) {
+		return iterate(text).stream();
+	}
+	
+	/**
+	 * Reads a search result.
+	 * @param jsonObject an element of {@code query.search}
+	 * @return the search result
+	 */
+	FandomSearchResult read(JSONObject jsonObject) {
+		String title = jsonObject.getString("title");
+		int namespace = jsonObject.getInt("ns");
+		long size = jsonObject.getLong("size");
+		long wordCount = jsonObject.getLong("wordcount");
+		String timestamp = jsonObject.getString("timestamp");
+		return new FandomSearchResult(title, jsonObject.getLong("pageid"), namespace, size, wordCount, timestamp, fandom);
+	}
+	
+	/**
+	 * Builds the search URL with all options except for the offset (see {@link #getOffsetParameter()}).
+	 * @param text search term
+	 * @return the URL
+	 */
 	private String buildUrl(String text) {
 		String parameters = "";
 		if(options != null) {
-			if(options.getNamespaces() != null) parameters += "&srnamespace=" + options.getNamespaces();
-			else if(options.getOffset() > 0) parameters += "&sroffset=" + options.getOffset();
-			else if(options.getType() >= 0) parameters += "&srwhat=" + (options.getType() == FandomSearchOptions.TITLE ? "title" : options.getType() == FandomSearchOptions.TEXT ? "text" : "nearmatch");
-			else if(options.getSortPriority() == FandomSearchOptions.RELEVANCE) parameters += "&srsort=relevance";
-			parameters += "&srlimit=" + options.getLimit();
-		}
+			if(options.getNamespaces() != null) parameters += "&srnamespace=" + FandomParser.toURL(options.getNamespaces(), true);
+			if(options.getType() >= 0) parameters += "&srwhat=" + (options.getType() == FandomSearchOptions.TITLE ? "title" : options.getType() == FandomSearchOptions.TEXT ? "text" : "nearmatch");
+			if(options.getSortPriority() == FandomSearchOptions.RELEVANCE) parameters += "&srsort=relevance";
+			parameters += "&srlimit=" + (options.getLimit() > 0 ? options.getLimit() : "max");
+		} else parameters += "&srlimit=max";
 		return "https://" + fandom.baseUrl + "/api.php?action=query&list=search&srsearch=" + FandomParser.toURL(text, true) + parameters + "&srprop=size|wordcount|timestamp&format=json";
 	}
 	
+	private String getOffsetParameter() {
+		return options != null && options.getOffset() > 0 ? "&sroffset=" + options.getOffset() : "";
+	}
+	
 	/**
 	 * A search result.
 	 * @author Mika Thein
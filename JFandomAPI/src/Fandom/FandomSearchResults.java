@@ -0,0 +1,82 @@
+package Fandom;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import Fandom.FandomSearch.FandomSearchResult;
+
+/**
+ * Lazily iterates over the results of a {@link FandomSearch}.
+ * <p>The results are being requested page by page (following {@code sroffset}).
+ * While the results of one page are being consumed, the next page is already being requested.
+ * @author Mika Thein
+ * @see FandomSearch#iterate(String)
+ * @see FandomSearch#stream(String)
+ */
+public class FandomSearchResults implements Iterator<FandomSearchResult> {
+	
+	/**
+	 * The search.
+	 */
+	public final FandomSearch search;
+	private final String url;
+	private final ArrayDeque<FandomSearchResult> results = new ArrayDeque<>();
+	private CompletableFuture<JSONObject> next;
+	
+	/**
+	 * Creates a new FandomSearchResults instance. The first page is being requested immediately (without blocking).
+	 * @param search the search
+	 * @param url the search URL without offset
+	 * @param offset the offset parameter of the first page (might be empty)
+	 */
+	FandomSearchResults(FandomSearch search, String url, String offset) {
+		this.search = search;
+		this.url = url;
+		next = search.fandom.transport.receiveJSONFromWebsiteAsync(url + offset);
+	}
+	
+	@Override
+	public synchronized boolean hasNext() {
+		while(results.isEmpty() && next != null) read(FandomAsync.join(next));
+		return !results.isEmpty();
+	}
+	
+	@Override
+	public synchronized FandomSearchResult next() {
+		if(!hasNext()) throw new NoSuchElementException();
+		return results.poll();
+	}
+	
+	/**
+	 * Adds the results of a received page and starts requesting the following page.
+	 * @param jsonObject the received page
+	 */
+	private void read(JSONObject jsonObject) {
+		if(jsonObject.has("error")) {
+			next = null;
+			throw new ReadingException("Can't read search results: " + jsonObject.getJSONObject("error").getString("info"));
+		}
+		JSONObject continuation = jsonObject.optJSONObject("continue");
+		next = continuation != null ? search.fandom.transport.receiveJSONFromWebsiteAsync(url + FandomParser.toContinuation(continuation)) : null;
+		JSONObject query = jsonObject.optJSONObject("query");
+		JSONArray jsonArray = query != null ? query.optJSONArray("search") : null;
+		if(jsonArray != null) for(int i = 0; i<jsonArray.length(); i++) results.add(search.read(jsonArray.getJSONObject(i)));
+	}
+	
+	/**
+	 * @return a sequential stream over the remaining results
+	 */
+	public Stream<FandomSearchResult> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+}
@@ -0,0 +1,135 @@
+package Fandom;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.json.JSONObject;
+
+import FandomTransport.FandomTransport;
+
+/**
+ * A persistent cache of the site information ({@code meta=siteinfo}) every {@link Fandom} instance is being created with.
+ * <p>The site information of every Fandom is being stored as a JSON file within {@link #directory}. Creating a Fandom whose
+ * site information is cached does not send any request, so known Fandoms can be created instantly and even offline.
+ * Once the cached site information is older than {@link #refreshInterval}, it is being requested again, either before the
+ * Fandom is being created or (if {@link #backgroundRefresh} is enabled) in the background for the Fandoms created afterwards.
+ * If the site information can't be requested, outdated site information is being used.
+ * @author Mika Thein
+ * @see Fandom#SITE_INFO_CACHE
+ * @see #FandomSiteInfoCache(File, Duration, boolean)
+ */
+public class FandomSiteInfoCache {
+	
+	/**
+	 * The directory the site information is being stored in.
+	 */
+	public final File directory;
+	/**
+	 * The age after which site information is being requested again.
+	 */
+	public final Duration refreshInterval;
+	/**
+	 * Whether outdated site information is being used right away while it is being requested again in the background.
+	 */
+	public final boolean backgroundRefresh;
+	
+	private final ConcurrentHashMap<String, JSONObject> entries = new ConcurrentHashMap<>();
+	private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+	
+	/**
+	 * Creates a new FandomSiteInfoCache instance.
+	 * @param directory the directory the site information is being stored in (is being created if necessary)
+	 * @param refreshInterval the age after which site information is being requested again
+	 * @param backgroundRefresh whether outdated site information is being used right away while it is being requested again in the background
+	 */
+	public FandomSiteInfoCache(File directory, Duration refreshInterval, boolean backgroundRefresh) {
+		if(refreshInterval == null || refreshInterval.isNegative()) throw new IllegalArgumentException("The refresh interval must not be negative");
+		this.directory = directory;
+		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
+		directory.mkdirs();
+	}
+	
+	/**
+	 * Returns the {@code query} object of the site information of a Fandom, requesting it if it is not cached or outdated.
+	 * @param baseUrl the base URL of the Fandom
+	 * @param transport the transport
+	 * @return the {@code query} object
+	 * @throws NotFoundException if the Fandom does not exist
+	 */
+	JSONObject get(String baseUrl, FandomTransport transport) {
+		JSONObject entry = entries.computeIfAbsent(baseUrl, this::read);
+		if(entry == null) return put(baseUrl, transport.receiveJSONFromWebsite(Fandom.getSiteInfoUrl(baseUrl)));
+		if(System.currentTimeMillis() - entry.getLong("timestamp") < refreshInterval.toMillis()) return entry.getJSONObject("query");
+		if(backgroundRefresh) {
+			if(refreshing.add(baseUrl)) transport.receiveJSONFromWebsiteAsync(Fandom.getSiteInfoUrl(baseUrl)).whenComplete((response, e) -> {
+				refreshing.remove(baseUrl);
+				if(e == null) put(baseUrl, response);
+				else if(Fandom.DEBUG) e.printStackTrace();
+			});
+			return entry.getJSONObject("query");
+		}
+		try {
+			return put(baseUrl, transport.receiveJSONFromWebsite(Fandom.getSiteInfoUrl(baseUrl)));
+		} catch(NotFoundException e) {
+			throw e;
+		} catch(RuntimeException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			return entry.getJSONObject("query");
+		}
+	}
+	
+	/**
+	 * Stores a site information response.
+	 * @param baseUrl the base URL of the Fandom
+	 * @param response the response
+	 * @return the {@code query} object of the response
+	 */
+	private JSONObject put(String baseUrl, JSONObject response) {
+		JSONObject query = response.getJSONObject("query");
+		JSONObject entry = new JSONObject().put("timestamp", System.currentTimeMillis()).put("query", query);
+		entries.put(baseUrl, entry);
+		File file = getFile(baseUrl);
+		try {
+			Path temporary = Files.createTempFile(directory.toPath(), file.getName(), ".tmp");
+			Files.write(temporary, entry.toString().getBytes(StandardCharsets.UTF_8));
+			Files.move(temporary, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch(IOException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+		}
+		return query;
+	}
+	
+	private JSONObject read(String baseUrl) {
+		File file = getFile(baseUrl);
+		if(!file.isFile()) return null;
+		try {
+			JSONObject entry = new JSONObject(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+			return entry.has("timestamp") && entry.has("query") ? entry : null;
+		} catch(Exception e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			return null;
+		}
+	}
+	
+	private File getFile(String baseUrl) {
+		return new File(directory, baseUrl.replace('/', '_') + ".json");
+	}
+	
+	/**
+	 * Removes the site information of a Fandom, so that it is being requested again.
+	 * @param baseUrl the base URL of the Fandom
+	 */
+	public void remove(String baseUrl) {
+		entries.remove(baseUrl);
+		getFile(baseUrl).delete();
+	}
+
+}
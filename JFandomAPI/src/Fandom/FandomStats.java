@@ -1,10 +1,13 @@
 package Fandom;
+import java.util.concurrent.CompletableFuture;
+
 import org.json.JSONObject;
 
 /**
  * Can be used to receive statistics about a Fandom.
  * @author Mika Thein
  * @see Fandom
+ * @see FandomStatsCollector
  */
 public class FandomStats {
 	
@@ -60,14 +63,25 @@ public class FandomStats {
 	 * The amount of total posts.
 	 */
 	final public long totalPosts;
+	/**
+	 * The time these statistics have been received at (in milliseconds since epoch).
+	 */
+	final public long timestamp;
 	
 	/**
-	 * Creates a new FandomStats instance.
+	 * Creates a new FandomStats instance. The statistics and the post counts are being requested concurrently.
 	 * @param fandom the Fandom
+	 * @see #request(Fandom)
 	 */
 	public FandomStats(Fandom fandom) {
+		this(fandom, requestStatistics(fandom), requestPostCounts(fandom));
+	}
+	
+	private FandomStats(Fandom fandom, CompletableFuture<JSONObject> statistics, CompletableFuture<JSONObject> postCounts) {
 		this.fandom = fandom;
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&meta=siteinfo&siprop=statistics&format=json")).getJSONObject("query").getJSONObject("statistics");
+		JSONObject jsonObject = FandomAsync.join(statistics).getJSONObject("query").getJSONObject("statistics");
+		JSONObject counts = FandomAsync.join(postCounts);
+		this.timestamp = System.currentTimeMillis();
 		edits = jsonObject.getLong("edits");
 		articles = jsonObject.getLong("articles");
 		pages = jsonObject.getLong("pages");
@@ -76,13 +90,64 @@ public class FandomStats {
 		activeUsers = jsonObject.getLong("activeusers");
 		admins = jsonObject.getLong("admins");
 		jobs = jsonObject.getLong("jobs");
-		jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&limit=1&format=json")).getJSONObject("_embedded").getJSONArray("count").getJSONObject(0);
+		jsonObject = counts.getJSONObject("_embedded").getJSONArray("count").getJSONObject(0);
 		forumPosts = jsonObject.getLong("FORUM");
 		wallPosts = jsonObject.getLong("WALL");
 		articleComments = jsonObject.getLong("ARTICLE_COMMENT");
 		totalPosts = jsonObject.getLong("total");
 	}
 	
+	/**
+	 * Requests the statistics of a Fandom without blocking. Both endpoints are being requested concurrently.
+	 * @param fandom the Fandom
+	 * @return a future completing with the statistics
+	 * @see #FandomStats(Fandom)
+	 * @see FandomStatsCollector
+	 */
+	static public CompletableFuture<FandomStats> request(Fandom fandom) {
+		CompletableFuture<JSONObject> statistics = requestStatistics(fandom), postCounts = requestPostCounts(fandom);
+		return CompletableFuture.allOf(statistics, postCounts).thenApply(v -> new FandomStats(fandom, statistics, postCounts));
+	}
+	
+	private static CompletableFuture<JSONObject> requestStatistics(Fandom fandom) {
+		return fandom.transport.receiveJSONFromWebsiteAsync("https://" + fandom.baseUrl + "/api.php?action=query&meta=siteinfo&siprop=statistics&format=json");
+	}
+	
+	private static CompletableFuture<JSONObject> requestPostCounts(Fandom fandom) {
+		return fandom.transport.receiveJSONFromWebsiteAsync("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&limit=1&format=json");
+	}
+	
+	/**
+	 * @param previous earlier statistics of the same Fandom
+	 * @return the minutes passed since {@code previous}
+	 */
+	public double getMinutesSince(FandomStats previous) {
+		return (timestamp - previous.timestamp) / 60000d;
+	}
+	
+	/**
+	 * @param previous earlier statistics of the same Fandom
+	 * @return the edits per minute since {@code previous} (0 if no time has passed)
+	 * @see #getPostsPerMinute(FandomStats)
+	 */
+	public double getEditsPerMinute(FandomStats previous) {
+		return perMinute(edits - previous.edits, previous);
+	}
+	
+	/**
+	 * @param previous earlier statistics of the same Fandom
+	 * @return the posts (of all types) per minute since {@code previous} (0 if no time has passed)
+	 * @see #getEditsPerMinute(FandomStats)
+	 */
+	public double getPostsPerMinute(FandomStats previous) {
+		return perMinute(totalPosts - previous.totalPosts, previous);
+	}
+	
+	private double perMinute(long delta, FandomStats previous) {
+		double minutes = getMinutesSince(previous);
+		return minutes > 0 ? delta / minutes : 0;
+	}
+	
 	/**
 	 * @return the url to the statistics page
 	 */
@@ -0,0 +1,135 @@
+package Fandom;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects {@link FandomStats} snapshots of many Fandoms.
+ * <p>Snapshots are being cached for a configurable time to live, concurrent requests for the same Fandom share one snapshot.
+ * The previous snapshot of every Fandom is being kept, so that deltas (like {@link FandomStats#getEditsPerMinute(FandomStats)}) can be computed.
+ * @author Mika Thein
+ * @see FandomStats
+ * @see #sample(Collection)
+ */
+public class FandomStatsCollector {
+	
+	/**
+	 * The time snapshots are being reused for.
+	 */
+	public final Duration ttl;
+	private final ConcurrentHashMap<String, Snapshots> snapshots = new ConcurrentHashMap<>();
+	
+	/**
+	 * Creates a new FandomStatsCollector instance.
+	 * @param ttl the time snapshots are being reused for
+	 */
+	public FandomStatsCollector(Duration ttl) {
+		if(ttl == null || ttl.isNegative()) throw new IllegalArgumentException("ttl must not be negative");
+		this.ttl = ttl;
+	}
+	
+	/**
+	 * Returns the current snapshot of a Fandom without blocking. A new snapshot is being requested if the cached one is older than {@link #ttl}.
+	 * @param fandom the Fandom
+	 * @return a future completing with the snapshot
+	 * @see #get(Fandom)
+	 */
+	public CompletableFuture<FandomStats> getAsync(Fandom fandom) {
+		return snapshots.computeIfAbsent(fandom.baseUrl, k -> new Snapshots()).get(fandom, ttl.toMillis());
+	}
+	
+	/**
+	 * Returns the current snapshot of a Fandom. A new snapshot is being requested if the cached one is older than {@link #ttl}.
+	 * @param fandom the Fandom
+	 * @return the snapshot
+	 * @see #getAsync(Fandom)
+	 */
+	public FandomStats get(Fandom fandom) {
+		return FandomAsync.join(getAsync(fandom));
+	}
+	
+	/**
+	 * Returns the snapshot before the current snapshot of a Fandom.
+	 * @param fandom the Fandom
+	 * @return the previous snapshot or {@code null} if there is none
+	 * @see #getEditsPerMinute(Fandom)
+	 * @see #getPostsPerMinute(Fandom)
+	 */
+	public FandomStats getPrevious(Fandom fandom) {
+		Snapshots s = snapshots.get(fandom.baseUrl);
+		return s != null ? s.getPrevious() : null;
+	}
+	
+	/**
+	 * Returns the edits per minute between the previous and the current snapshot of a Fandom (see {@link #get(Fandom)}).
+	 * @param fandom the Fandom
+	 * @return the edits per minute (0 if there is no previous snapshot)
+	 * @see FandomStats#getEditsPerMinute(FandomStats)
+	 */
+	public double getEditsPerMinute(Fandom fandom) {
+		FandomStats current = get(fandom), previous = getPrevious(fandom);
+		return previous != null ? current.getEditsPerMinute(previous) : 0;
+	}
+	
+	/**
+	 * Returns the posts per minute between the previous and the current snapshot of a Fandom (see {@link #get(Fandom)}).
+	 * @param fandom the Fandom
+	 * @return the posts per minute (0 if there is no previous snapshot)
+	 * @see FandomStats#getPostsPerMinute(FandomStats)
+	 */
+	public double getPostsPerMinute(Fandom fandom) {
+		FandomStats current = get(fandom), previous = getPrevious(fandom);
+		return previous != null ? current.getPostsPerMinute(previous) : 0;
+	}
+	
+	/**
+	 * Samples many Fandoms in parallel.
+	 * @param fandoms the Fandoms
+	 * @return the current snapshots in the order of {@code fandoms} (Fandoms whose statistics could not be received are being skipped)
+	 */
+	public Map<Fandom, FandomStats> sample(Collection<Fandom> fandoms) {
+		LinkedHashMap<Fandom, CompletableFuture<FandomStats>> futures = new LinkedHashMap<>();
+		for(Fandom fandom : fandoms) futures.put(fandom, getAsync(fandom));
+		LinkedHashMap<Fandom, FandomStats> stats = new LinkedHashMap<>();
+		for(Map.Entry<Fandom, CompletableFuture<FandomStats>> future : futures.entrySet()) {
+			try {
+				stats.put(future.getKey(), FandomAsync.join(future.getValue()));
+			} catch(RuntimeException e) {
+				if(Fandom.DEBUG) e.printStackTrace();
+			}
+		}
+		return stats;
+	}
+	
+	/**
+	 * Removes all snapshots.
+	 */
+	public void clear() {
+		snapshots.clear();
+	}
+	
+	private static class Snapshots {
+		
+		private CompletableFuture<FandomStats> current;
+		private FandomStats previous;
+		
+		synchronized CompletableFuture<FandomStats> get(Fandom fandom, long ttl) {
+			if(current != null) {
+				FandomStats stats = current.isDone() && !current.isCompletedExceptionally() ? current.join() : null;
+				if(!current.isDone() || (stats != null && System.currentTimeMillis() - stats.timestamp < ttl)) return current;
+				if(stats != null) previous = stats;
+			}
+			return current = FandomStats.request(fandom);
+		}
+		
+		synchronized FandomStats getPrevious() {
+			return previous;
+		}
+	
+	}
+
+}
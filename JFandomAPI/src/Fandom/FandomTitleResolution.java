@@ -0,0 +1,68 @@
+package Fandom;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of resolving many page titles at once.
+ * @author Mika Thein
+ * @see Fandom#resolveTitles(java.util.Collection)
+ * @see FandomPage#getIdsFromTitles(java.util.Collection, boolean, Fandom)
+ */
+public class FandomTitleResolution {
+	
+	/**
+	 * The page IDs of all existing pages, with the requested titles as keys (in the order of the request).
+	 * @see #missing
+	 */
+	public final Map<String, Long> ids;
+	/**
+	 * The resolved title of every requested title (after normalization and, if enabled, redirects).
+	 * @see #ids
+	 */
+	public final Map<String, String> titles;
+	/**
+	 * The requested titles of pages which do not exist (or are invalid).
+	 * @see #ids
+	 */
+	public final List<String> missing;
+	
+	FandomTitleResolution(Map<String, Long> ids, Map<String, String> titles, List<String> missing) {
+		this.ids = Collections.unmodifiableMap(ids);
+		this.titles = Collections.unmodifiableMap(titles);
+		this.missing = Collections.unmodifiableList(missing);
+	}
+	
+	/**
+	 * Returns the page ID of a requested title.
+	 * @param title the requested title
+	 * @return the page ID
+	 * @throws NotFoundException if the page does not exist
+	 */
+	public long getId(String title) {
+		Long id = ids.get(title);
+		if(id == null) throw new NotFoundException("There is no page with title \"" + title + "\"");
+		return id;
+	}
+	
+	/**
+	 * @return whether all requested pages exist
+	 * @see #requireAll()
+	 */
+	public boolean isComplete() {
+		return missing.isEmpty();
+	}
+	
+	/**
+	 * Ensures that all requested pages exist.
+	 * @return this FandomTitleResolution
+	 * @throws NotFoundException listing all missing titles if at least one page does not exist
+	 * @see #isComplete()
+	 */
+	public FandomTitleResolution requireAll() {
+		if(!missing.isEmpty()) throw new NotFoundException("There " + (missing.size() == 1 ? "is no page" : "are no pages") + " with title \"" + String.join("\", \"", missing) + "\"");
+		return this;
+	}
+
+}
@@ -1,6 +1,11 @@
 package Fandom;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import FandomActivity.FandomPost;
@@ -40,6 +45,7 @@ public class FandomUser {
 	private String discussionsUrl;
 	
 	private FandomArticle article;
+	private volatile boolean articleLoaded = false;
 	
 	/**
 	 * The Fandom.
@@ -63,24 +69,67 @@ public class FandomUser {
 	 * @return the user ID
 	 */
 	private static long getUserIdFromUsername(String username, Fandom fandom) {
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&list=users&ususers=" + FandomParser.toURL(username, true) + "&format=json")).getJSONObject("query").getJSONArray("users").getJSONObject(0);
+		JSONObject jsonObject = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&list=users&ususers=" + FandomParser.toURL(username, true) + "&format=json").getJSONObject("query").getJSONArray("users").getJSONObject(0);
 		return jsonObject.getLong("userid");
 	}
 	
 	/**
-	 * Creates a new FandomUser instance.
+	 * Returns the user IDs of up to {@link Fandom#BATCH_SIZE} users with a single request.
+	 * @param usernames the usernames
+	 * @param fandom the Fandom
+	 * @return the user IDs in the order of {@code usernames} (users which do not exist are being skipped)
+	 */
+	static List<Long> getUserIdsFromUsernames(List<String> usernames, Fandom fandom) {
+		return readUserIds(fandom.transport.receiveJSONFromWebsite(getUsersUrl(usernames, fandom)));
+	}
+	
+	/**
+	 * Asynchronous version of {@link #getUserIdsFromUsernames(List, Fandom)}, which does not block any thread while waiting for the response.
+	 * @param usernames the usernames
+	 * @param fandom the Fandom
+	 * @return a future completing with the user IDs in the order of {@code usernames} (users which do not exist are being skipped)
+	 */
+	static CompletableFuture<List<Long>> getUserIdsFromUsernamesAsync(List<String> usernames, Fandom fandom) {
+		return fandom.transport.receiveJSONFromWebsiteAsync(getUsersUrl(usernames, fandom)).thenApply(FandomUser::readUserIds);
+	}
+	
+	private static String getUsersUrl(List<String> usernames, Fandom fandom) {
+		return "https://" + fandom.baseUrl + "/api.php?action=query&list=users&ususers=" + FandomParser.toURL(String.join("|", usernames), true) + "&format=json";
+	}
+	
+	private static List<Long> readUserIds(JSONObject response) {
+		JSONArray users = response.getJSONObject("query").getJSONArray("users");
+		ArrayList<Long> ids = new ArrayList<>();
+		for(int i = 0; i<users.length(); i++) {
+			JSONObject user = users.getJSONObject(i);
+			if(user.has("userid") && !user.has("missing") && !user.has("invalid")) ids.add(user.getLong("userid"));
+		}
+		return ids;
+	}
+	
+	/**
+	 * Creates a new FandomUser instance. The user page is not being loaded until {@link #getAsArticle()} is being called.
 	 * @param userId the user ID
 	 * @param fandom the Fandom
 	 * @see #FandomUser(String, Fandom)
+	 * @see Fandom#getUsers(Collection)
 	 */
 	public FandomUser(long userId, Fandom fandom) {
+		this(userId, fandom.transport.receiveJSONFromWebsite(getUserDataUrl(userId, fandom)), fandom);
+	}
+	
+	/**
+	 * Creates a new FandomUser instance from the response of {@link #getUserDataUrl(long, Fandom)}.
+	 * @param userId the user ID
+	 * @param response the user data response
+	 * @param fandom the Fandom
+	 */
+	FandomUser(long userId, JSONObject response, Fandom fandom) {
 		this.id = userId;
 		this.fandom = fandom;
 		try {
-			String text = Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=UserProfile&method=getUserData&format=json&userId=" + userId);
-			JSONObject jsonObject = new JSONObject(text).getJSONObject("userData");
+			JSONObject jsonObject = response.getJSONObject("userData");
 			username = jsonObject.optString("username");
-			article = fandom.articleExists("User:" + username) ? new FandomArticle("User:" + username, fandom) : null;
 			avatarUrl = jsonObject.optString("avatar");
 			name = jsonObject.isNull("name") ? null : jsonObject.getString("name");
 			bio = jsonObject.isNull("bio") ? null : jsonObject.getString("bio");
@@ -101,11 +150,32 @@ public class FandomUser {
 	}
 	
 	/**
-	 * Returns the user's page as article (might be {@code null}).
+	 * @param userId the user ID
+	 * @param fandom the Fandom
+	 * @return the URL the user data is being received from
+	 */
+	static String getUserDataUrl(long userId, Fandom fandom) {
+		return "https://" + fandom.baseUrl + "/wikia.php?controller=UserProfile&method=getUserData&format=json&userId=" + userId;
+	}
+	
+	/**
+	 * Returns the user's page as article (might be {@code null}). The article is being loaded when this method is being called the first time.
 	 * @see #hasUserPage()
 	 * @return the user's page as article
 	 */
 	public FandomArticle getAsArticle() {
+		if(!articleLoaded) {
+			synchronized(this) {
+				if(!articleLoaded) {
+					try {
+						article = new FandomArticle("User:" + username, fandom);
+					} catch(NotFoundException e) {
+						article = null;
+					}
+					articleLoaded = true;
+				}
+			}
+		}
 		return article;
 	}
 	
@@ -173,14 +243,14 @@ public class FandomUser {
 	 * @see #getAsArticle()
 	 * @return whether the user has a user page
 	 */
-	public boolean hasUserPage() { return article != null; }
+	public boolean hasUserPage() { return getAsArticle() != null; }
 	
 	/**
 	 * Might want to use getAsArticle().getWikitextDescription() instead.
 	 * @see #getAsArticle()
 	 * @return returns the plain description of the user page
 	 */
-	public String getUserPageDescription() { return article.description; }
+	public String getUserPageDescription() { return hasUserPage() ? article.description : null; }
 	
 	/**
 	 * Returns recent changes by this user.
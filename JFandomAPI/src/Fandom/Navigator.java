@@ -1,57 +1,149 @@
 package Fandom;
 
 import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.util.concurrent.CompletableFuture;
+
+import org.json.JSONObject;
+
+import FandomTransport.FandomTransport;
+import FandomTransport.HttpTransport;
 
 /**
  * This class is being used for retrieving web information.
+ * <p>All static methods are being delegated to the default {@link FandomTransport} (an {@link HttpTransport} unless replaced),
+ * which is also the transport of every {@link Fandom} created by {@link Fandom#Fandom(String)}.
  * @author Mika Thein
+ * @see #setDefaultTransport(FandomTransport)
+ * @see #setHttpClient(HttpClient)
  */
 public class Navigator {
 	
+	/**
+	 * The size (in chars) of the buffer responses are being read with.
+	 * @see #openReader(String)
+	 */
+	public static final int BUFFER_SIZE = FandomTransport.BUFFER_SIZE;
+	
+	private static volatile HttpClient httpClient = HttpTransport.newHttpClient();
+	private static volatile FandomTransport defaultTransport = new HttpTransport(httpClient);
+	
+	/**
+	 * Returns the shared HttpClient of the default transport.
+	 * @return the shared HttpClient
+	 * @see #setHttpClient(HttpClient)
+	 */
+	static public HttpClient getHttpClient() {
+		return httpClient;
+	}
+	
+	/**
+	 * Replaces the shared HttpClient (e. g. to use a proxy, a custom executor or a custom SSL context) and resets the default transport to an {@link HttpTransport} using it.
+	 * @param client the new HttpClient
+	 * @see HttpTransport#newHttpClient()
+	 * @see #getHttpClient()
+	 */
+	static public void setHttpClient(HttpClient client) {
+		if(client == null) throw new IllegalArgumentException("The HttpClient can't be null");
+		httpClient = client;
+		defaultTransport = new HttpTransport(client);
+	}
+	
+	/**
+	 * Returns the default transport.
+	 * @return the default transport
+	 * @see #setDefaultTransport(FandomTransport)
+	 */
+	static public FandomTransport getDefaultTransport() {
+		return defaultTransport;
+	}
+	
+	/**
+	 * Replaces the default transport. {@link Fandom} instances that already exist keep their transport.
+	 * @param transport the new default transport
+	 * @see #getDefaultTransport()
+	 * @see Fandom#Fandom(String, FandomTransport)
+	 */
+	static public void setDefaultTransport(FandomTransport transport) {
+		if(transport == null) throw new IllegalArgumentException("The transport can't be null");
+		defaultTransport = transport;
+	}
+	
 	/**
 	 * Returns the redirect URL of a given URL.
 	 * @param url the URL
 	 * @return the redirect of that URL
 	 */
 	static public String getRedirect(String url) {
-		URL urlTmp = null;
-		String redUrl = null;
-		HttpURLConnection connection = null;
-		url = FandomParser.toURL(url, true);
-		try {
-			urlTmp = new URL(url);
-			connection = (HttpURLConnection) urlTmp.openConnection();
-			connection.getResponseCode();
-		} catch (IOException e) {
-			if(Fandom.DEBUG) e.printStackTrace();
-		}
-
-		redUrl = connection.getURL().toString();
-		connection.disconnect();
-		
-		return redUrl;
+		return defaultTransport.getRedirect(url);
 	}
 	
 	/**
-	 * Receives (first-line) text from a URL and returns it as String.
+	 * Receives the whole text from a URL and returns it as String.
 	 * @param url the URL
 	 * @return the web text as String
+	 * @see #receiveJSONFromWebsite(String)
+	 * @see #openReader(String)
 	 */
 	static public String receiveTextFromWebsite(String url) {
-		try {
-			URL u = new URL(url);
-			return new BufferedReader(new InputStreamReader(u.openStream())).readLine();
-		} catch(java.io.FileNotFoundException e) {
-			if(Fandom.DEBUG) e.printStackTrace();
-			throw new NotFoundException("The given URL does not exist");
-		} catch(IOException e) {
-			if(Fandom.DEBUG) e.printStackTrace();
-			throw new RuntimeException("Something went wrong (set static boolean Fandom.DEBUG to true to print exact stack trace)");
-		}
+		return defaultTransport.receiveTextFromWebsite(url);
+	}
+	
+	/**
+	 * Receives a JSON object from a URL. The response is being parsed while it is being read, without building a String first.
+	 * @param url the URL
+	 * @return the response as JSONObject
+	 * @see #receiveTextFromWebsite(String)
+	 */
+	static public JSONObject receiveJSONFromWebsite(String url) {
+		return defaultTransport.receiveJSONFromWebsite(url);
+	}
+	
+	/**
+	 * Opens a (UTF-8) reader on the response body of a URL, buffered by {@link #BUFFER_SIZE} chars.<p>
+	 * <b>The reader has to be closed</b> (e. g. by a try-with-resources statement), otherwise the connection can't be reused.
+	 * @param url the URL
+	 * @return a reader on the response body
+	 * @throws NotFoundException if the given URL does not exist
+	 * @see #openStream(String)
+	 */
+	static public BufferedReader openReader(String url) {
+		return defaultTransport.openReader(url);
+	}
+	
+	/**
+	 * Opens a stream on the response body of a URL. The body is not being read until the stream is being consumed.<p>
+	 * <b>The stream has to be closed</b> (e. g. by a try-with-resources statement), otherwise the connection can't be reused.
+	 * @param url the URL
+	 * @return a stream on the response body
+	 * @throws NotFoundException if the given URL does not exist
+	 * @see #openReader(String)
+	 */
+	static public InputStream openStream(String url) {
+		return defaultTransport.openStream(url);
+	}
+	
+	/**
+	 * Receives the whole text from a URL without blocking the calling thread.
+	 * @param url the URL
+	 * @return a future completing with the web text (or exceptionally with a {@link NotFoundException} if the given URL does not exist)
+	 * @see #receiveJSONFromWebsiteAsync(String)
+	 * @see #receiveTextFromWebsite(String)
+	 */
+	static public CompletableFuture<String> receiveTextFromWebsiteAsync(String url) {
+		return defaultTransport.receiveTextFromWebsiteAsync(url);
+	}
+	
+	/**
+	 * Receives a JSON object from a URL without blocking the calling thread.
+	 * @param url the URL
+	 * @return a future completing with the response as JSONObject
+	 * @see #receiveTextFromWebsiteAsync(String)
+	 * @see #receiveJSONFromWebsite(String)
+	 */
+	static public CompletableFuture<JSONObject> receiveJSONFromWebsiteAsync(String url) {
+		return defaultTransport.receiveJSONFromWebsiteAsync(url);
 	}
 
 }
@@ -0,0 +1,9 @@
+package Fandom;
+
+public class RateLimitException extends RuntimeException {
+	
+	public RateLimitException(String message) {
+		super(message);
+	}
+
+}
@@ -12,6 +12,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -24,7 +25,6 @@ import Fandom.FandomPage;
 import Fandom.FandomParser;
 import Fandom.FandomUser;
 import Fandom.InvalidFormatException;
-import Fandom.Navigator;
 import Fandom.ReadingException;
 
 /**
@@ -128,7 +128,29 @@ public class FandomActivity {
 	 * @throws IOException if the API is unreachable
 	 */
 	public FandomRecentChange[] getRecentChanges(FandomUser author, FandomPage page, String latestTimestamp, int limit) throws IOException {
-		JSONArray jsonArray = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/api.php?action=query&list=recentchanges&rcprop=title|ids|sizes|flags|user|timestamp|comment|tags|loginfo" + (author != null ? "&rcuser=" + FandomParser.toURL(author.username, true) : "") + (page != null ? "&rctitle=" + FandomParser.toURL(page.title, true) : "") + (latestTimestamp != null && latestTimestamp.length() > 0 ? "&rcend=" + FandomParser.toURL(latestTimestamp, true) : "") + "&rclimit=" + limit + "&format=json")).getJSONObject("query").getJSONArray("recentchanges");
+		return parseRecentChanges(fandom.transport.receiveJSONFromWebsite(getRecentChangesUrl(author, page, latestTimestamp, limit)));
+	}
+	
+	/**
+	 * Asynchronous version of {@link #getRecentChanges(FandomUser, FandomPage, String, int)}, which does not block the calling thread.<br>
+	 * Besides {@code limit}, each parameter can be set to {@code null} to be ignored.
+	 * @param author the Fandom user
+	 * @param page the Fandom page
+	 * @param latestTimestamp the latest timestamp (inclusive, stops generating any earlier changes)
+	 * @param limit the max amount of recent changes (0 to 100)
+	 * @return a future completing with {@code limit} recent changes by {@code author} on {@code page} since {@code timestamp}
+	 * @see Fandom#async()
+	 */
+	public CompletableFuture<FandomRecentChange[]> getRecentChangesAsync(FandomUser author, FandomPage page, String latestTimestamp, int limit) {
+		return fandom.transport.receiveJSONFromWebsiteAsync(getRecentChangesUrl(author, page, latestTimestamp, limit)).thenApply(this::parseRecentChanges);
+	}
+	
+	private String getRecentChangesUrl(FandomUser author, FandomPage page, String latestTimestamp, int limit) {
+		return "https://" + fandom.baseUrl + "/api.php?action=query&list=recentchanges&rcprop=title|ids|sizes|flags|user|timestamp|comment|tags|loginfo" + (author != null ? "&rcuser=" + FandomParser.toURL(author.username, true) : "") + (page != null ? "&rctitle=" + FandomParser.toURL(page.title, true) : "") + (latestTimestamp != null && latestTimestamp.length() > 0 ? "&rcend=" + FandomParser.toURL(latestTimestamp, true) : "") + "&rclimit=" + limit + "&format=json";
+	}
+	
+	private FandomRecentChange[] parseRecentChanges(JSONObject response) {
+		JSONArray jsonArray = response.getJSONObject("query").getJSONArray("recentchanges");
 		ArrayList<FandomRecentChange> recentChanges = new ArrayList<>();
 		for(int i = 0; i<jsonArray.length(); i++) {
 			JSONObject jsonObject = jsonArray.getJSONObject(i);
@@ -223,7 +245,7 @@ public class FandomActivity {
 	 */
 	public FandomPost[] getRecentForumPosts(FandomUser author, int limit) throws MalformedURLException, IOException {
 		if(limit < 1 || limit > 100) throw new InvalidFormatException("The limit has to be between 1 and 100 (inclusive).");
-		JSONArray jsonArray = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&containerType=FORUM&limit=" + limit + (author != null ? "&userId=" + author.id : "") + "&format=json")).getJSONObject("_embedded").getJSONArray("doc:posts");
+		JSONArray jsonArray = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&containerType=FORUM&limit=" + limit + (author != null ? "&userId=" + author.id : "") + "&format=json").getJSONObject("_embedded").getJSONArray("doc:posts");
 		ArrayList<FandomPost> posts = new ArrayList<>();
 		for(int i = 0; i<jsonArray.length(); i++) {
 			try {
@@ -262,7 +284,7 @@ public class FandomActivity {
 	 */
 	public FandomPost[] getRecentWallPosts(FandomUser author, int limit) throws MalformedURLException, IOException {
 		if(limit < 1 || limit > 100) throw new InvalidFormatException("The limit has to be between 1 and 100 (inclusive).");
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&containerType=WALL&limit=" + limit + (author != null ? "&userId=" + author.id : "") + "&format=json")).getJSONObject("_embedded");
+		JSONObject jsonObject = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&containerType=WALL&limit=" + limit + (author != null ? "&userId=" + author.id : "") + "&format=json").getJSONObject("_embedded");
 		JSONArray jsonArray = jsonObject.getJSONArray("wallOwners");
 		HashMap<String, Long> wallOwners = new HashMap<>();
 		for(int i = 0; i<jsonArray.length(); i++) {
@@ -322,7 +344,7 @@ public class FandomActivity {
 	 */
 	public FandomPost[] getRecentArticleComments(FandomUser author, int limit) throws MalformedURLException, IOException {
 		if(limit < 1 || limit > 100) throw new InvalidFormatException("The limit has to be between 1 and 100 (inclusive).");
-		JSONArray jsonArray = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&containerType=ARTICLE_COMMENT&limit=" + limit + (author != null ? "&userId=" + author.id : "") + "&format=json")).getJSONObject("_embedded").getJSONArray("doc:posts");
+		JSONArray jsonArray = fandom.transport.receiveJSONFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPosts&containerType=ARTICLE_COMMENT&limit=" + limit + (author != null ? "&userId=" + author.id : "") + "&format=json").getJSONObject("_embedded").getJSONArray("doc:posts");
 		ArrayList<FandomPost> posts = new ArrayList<>();
 		for(int i = 0; i<jsonArray.length(); i++) {
 			try {
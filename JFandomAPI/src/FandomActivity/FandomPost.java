@@ -9,7 +9,6 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import Fandom.Fandom;
-import Fandom.Navigator;
 
 /**
  * Represents a Fandom post.
@@ -108,7 +107,28 @@ public class FandomPost extends FandomActivityElement {
 	 * @return the Fandom post as FandomPoll, FandomReply or FandomPost
 	 */
 	public static FandomPost getPostById(long postId, Fandom fandom) { // https://avatar.fandom.com/de/wikia.php?controller=DiscussionPost&method=getPost&postId=4400000000000125140&format=json
-		JSONObject jsonObject = new JSONObject(Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPost&postId=" + postId + "&format=json"));
+		return fromJSON(fandom.transport.receiveJSONFromWebsite(getPostUrl(postId, fandom)), fandom);
+	}
+	
+	/**
+	 * @param postId the post ID
+	 * @param fandom the Fandom
+	 * @return the URL the post is being received from
+	 * @see #fromJSON(JSONObject, Fandom)
+	 */
+	public static String getPostUrl(long postId, Fandom fandom) {
+		return "https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPost&method=getPost&postId=" + postId + "&format=json";
+	}
+	
+	/**
+	 * Reads a post.
+	 * @param jsonObject the response of {@link #getPostUrl(long, Fandom)}
+	 * @param fandom the Fandom
+	 * @return the Fandom post as FandomPoll, FandomReply or FandomPost
+	 * @see #getPostById(long, Fandom)
+	 */
+	public static FandomPost fromJSON(JSONObject jsonObject, Fandom fandom) {
+		long postId = Long.parseLong(jsonObject.getString("id"));
 		JSONObject createdBy = jsonObject.getJSONObject("createdBy");
 		FandomPostAuthor author = new FandomPostAuthor(createdBy.getString("name"), Long.parseLong(createdBy.getString("id")), !createdBy.isNull("avatarUrl") ? createdBy.getString("avatarUrl") : null);
 		long epochSecond = jsonObject.getJSONObject("creationDate").getLong("epochSecond");
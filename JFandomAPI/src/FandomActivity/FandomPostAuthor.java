@@ -41,7 +41,7 @@ public class FandomPostAuthor {
 	 * @return the author as FandomUser
 	 */
 	public FandomUser getAsFandomUser(Fandom fandom) {
-		return new FandomUser(name, fandom);
+		return id > 0 ? new FandomUser(id, fandom) : new FandomUser(name, fandom);
 	}
 
 }
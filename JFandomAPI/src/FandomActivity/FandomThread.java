@@ -7,7 +7,6 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import Fandom.Fandom;
-import Fandom.Navigator;
 import Fandom.NotFoundException;
 
 /**
@@ -103,7 +102,7 @@ public class FandomThread {
 	 */
 	public FandomThread(long threadId, Fandom fandom) {
 		this.fandom = fandom;
-		this.json = Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionThread&method=getThread&threadId=" + threadId + "&viewableOnly=true&limit=100");
+		this.json = fandom.transport.receiveTextFromWebsite(getThreadUrl(threadId, fandom));
 		JSONObject jsonObject = new JSONObject(json);
 		JSONObject createdBy = jsonObject.getJSONObject("createdBy");
 		this.author = new FandomPostAuthor(createdBy.getString("name"), Long.parseLong(createdBy.getString("id")), !createdBy.isNull("avatarUrl") ? createdBy.getString("avatarUrl") : null);
@@ -127,7 +126,41 @@ public class FandomThread {
 	 * @return the thread of the given post
 	 */
 	public static FandomThread getThreadByPostId(long postId, Fandom fandom) {
-		String json = Navigator.receiveTextFromWebsite("https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPermalink&method=getThreadByPostId&postId=" + postId + "&viewableOnly=true&limit=100");
+		return fromJSON(fandom.transport.receiveTextFromWebsite(getThreadByPostIdUrl(postId, fandom)), fandom);
+	}
+	
+	/**
+	 * Returns the API URL of the thread with ID {@code threadId}.
+	 * @param threadId the thread ID
+	 * @param fandom the Fandom
+	 * @see #getThreadByPostIdUrl(long, Fandom)
+	 * @see #fromJSON(String, Fandom)
+	 * @return the API URL of the thread
+	 */
+	public static String getThreadUrl(long threadId, Fandom fandom) {
+		return "https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionThread&method=getThread&threadId=" + threadId + "&viewableOnly=true&limit=100";
+	}
+	
+	/**
+	 * Returns the API URL of the thread containing the post with ID {@code postId}.
+	 * @param postId the post ID
+	 * @param fandom the Fandom
+	 * @see #getThreadUrl(long, Fandom)
+	 * @see #fromJSON(String, Fandom)
+	 * @return the API URL of the thread
+	 */
+	public static String getThreadByPostIdUrl(long postId, Fandom fandom) {
+		return "https://" + fandom.baseUrl + "/wikia.php?controller=DiscussionPermalink&method=getThreadByPostId&postId=" + postId + "&viewableOnly=true&limit=100";
+	}
+	
+	/**
+	 * Creates a FandomThread from an already received API response.
+	 * @param json the response of {@link #getThreadUrl(long, Fandom)} or {@link #getThreadByPostIdUrl(long, Fandom)}
+	 * @param fandom the Fandom
+	 * @see #getThreadByPostId(long, Fandom)
+	 * @return the thread
+	 */
+	public static FandomThread fromJSON(String json, Fandom fandom) {
 		JSONObject jsonObject = new JSONObject(json);
 		JSONObject createdBy = jsonObject.getJSONObject("createdBy");
 		FandomPostAuthor author = new FandomPostAuthor(createdBy.getString("name"), Long.parseLong(createdBy.getString("id")), !createdBy.isNull("avatarUrl") ? createdBy.getString("avatarUrl") : null);
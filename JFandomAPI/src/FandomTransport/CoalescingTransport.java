@@ -0,0 +1,119 @@
+package FandomTransport;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.json.JSONObject;
+
+import Fandom.Fandom;
+
+/**
+ * A {@link FandomTransport} which coalesces concurrent requests of the same URL into a single request of the underlying transport.
+ * <p>While a URL is being requested, every further request of that URL waits for the same response instead of sending its own.
+ * Responses are not being stored afterwards.
+ * <p>Example:
+ * <blockquote><pre>
+ * Fandom fandom = new Fandom("disney.fandom.com", new CoalescingTransport(new HttpTransport()));
+ * </pre></blockquote>
+ * <b>Note:</b> {@link #openStream(String)} is not being coalesced, as a stream can't be shared.
+ * @author Mika Thein
+ * @see #CoalescingTransport(FandomTransport)
+ */
+public class CoalescingTransport implements FandomTransport {
+	
+	/**
+	 * The underlying transport.
+	 */
+	public final FandomTransport transport;
+	
+	private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+	private final AtomicLong coalesced = new AtomicLong();
+	
+	/**
+	 * Creates a new CoalescingTransport instance.
+	 * @param transport the underlying transport
+	 */
+	public CoalescingTransport(FandomTransport transport) {
+		if(transport == null) throw new IllegalArgumentException("The transport can't be null");
+		this.transport = transport;
+	}
+	
+	/**
+	 * @return the amount of requests which have been answered by the response of another request
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+	
+	@Override
+	public InputStream openStream(String url) {
+		return transport.openStream(url);
+	}
+	
+	@Override
+	public String receiveTextFromWebsite(String url) {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		CompletableFuture<String> existing = inFlight.putIfAbsent(url, future);
+		if(existing != null) {
+			coalesced.incrementAndGet();
+			try {
+				return existing.join();
+			} catch(CompletionException e) {
+				if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+				if(e.getCause() instanceof Error) throw (Error) e.getCause();
+				throw e;
+			}
+		}
+		try {
+			String body = transport.receiveTextFromWebsite(url);
+			future.complete(body);
+			return body;
+		} catch(Throwable e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(url, future);
+		}
+	}
+	
+	/**
+	 * Receives a JSON object from a URL. Every caller receives its own JSONObject parsed from the shared response.
+	 * @param url the URL
+	 * @return the response as JSONObject
+	 */
+	@Override
+	public JSONObject receiveJSONFromWebsite(String url) {
+		return new JSONObject(receiveTextFromWebsite(url));
+	}
+	
+	@Override
+	public CompletableFuture<String> receiveTextFromWebsiteAsync(String url) {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		CompletableFuture<String> existing = inFlight.putIfAbsent(url, future);
+		if(existing != null) {
+			coalesced.incrementAndGet();
+			return existing.thenApply(body -> body);
+		}
+		try {
+			transport.receiveTextFromWebsiteAsync(url).whenComplete((body, e) -> {
+				inFlight.remove(url, future);
+				if(e != null) future.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+				else future.complete(body);
+			});
+		} catch(Throwable e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			inFlight.remove(url, future);
+			future.completeExceptionally(e);
+		}
+		return future.thenApply(body -> body);
+	}
+	
+	@Override
+	public String getRedirect(String url) {
+		return transport.getRedirect(url);
+	}
+
+}
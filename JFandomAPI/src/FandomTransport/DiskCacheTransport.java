@@ -0,0 +1,448 @@
+package FandomTransport;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import Fandom.Fandom;
+import Fandom.Navigator;
+
+/**
+ * A {@link FandomTransport} storing responses of the underlying transport on disk, so they survive restarts.
+ * <p>Responses are being appended to segment files of {@link #SEGMENT_SIZE} bytes within {@link #directory}, which are being accessed as
+ * {@link MappedByteBuffer}s. An index from URL to the position of the response is being held in memory and rebuilt from the segments when
+ * the cache is being opened again, so a restarted crawler reuses every response which is not older than {@link #maxAge}.
+ * <p>The least recently used responses are being removed once the stored responses exceed {@link #maxSize} bytes. Removed responses are being
+ * marked as removed within their segment, so they are not being reused after a restart. Segments of which less than half is still in use are
+ * being compacted by copying the remaining responses to the current segment and deleting the segment.
+ * <b>Note:</b> the order of use is not being stored, responses are being considered in the order they have been stored after a restart.
+ * <p>Only URLs accepted by the filter are being cached ({@link #PARSE_REQUESTS} by default), error responses are never being cached.
+ * <p>Example:
+ * <blockquote><pre>
+ * DiskCacheTransport cache = new DiskCacheTransport(new HttpTransport(), new File("cache"), 4L &lt;&lt; 30, Duration.ofDays(7));
+ * Navigator.setDefaultTransport(cache);
+ * </pre></blockquote>
+ * @author Mika Thein
+ * @see #DiskCacheTransport(FandomTransport, File, long, Duration, Predicate)
+ * @see Navigator#setDefaultTransport(FandomTransport)
+ */
+public class DiskCacheTransport implements FandomTransport, Closeable {
+	
+	/**
+	 * The size of a segment file in bytes. Larger responses are not being cached.
+	 */
+	public static final int SEGMENT_SIZE = 64 << 20;
+	/**
+	 * Accepts {@code action=parse} requests (the article contents).
+	 */
+	public static final Predicate<String> PARSE_REQUESTS = url -> url.contains("action=parse");
+	
+	private static final int MAGIC = 0x4A464331;
+	private static final int DEAD = 0x4A464330;
+	private static final int HEADER_SIZE = 20;
+	private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.dat");
+	
+	/**
+	 * The underlying transport.
+	 */
+	public final FandomTransport transport;
+	/**
+	 * The directory the segment files are being stored in.
+	 */
+	public final File directory;
+	/**
+	 * The maximum size of all stored responses in bytes.
+	 */
+	public final long maxSize;
+	/**
+	 * The age after which responses are not being used anymore (or {@code null} if they never expire).
+	 */
+	public final Duration maxAge;
+	
+	private final Predicate<String> cacheable;
+	private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+	private final LinkedHashMap<String, Location> index = new LinkedHashMap<>(16, 0.75f, true);
+	private final ArrayList<File> obsolete = new ArrayList<>();
+	private final AtomicLong hits = new AtomicLong();
+	private Segment active;
+	private long size;
+	private boolean closed;
+	
+	/**
+	 * Creates a new DiskCacheTransport instance caching {@link #PARSE_REQUESTS}.
+	 * @param transport the underlying transport
+	 * @param directory the directory the segment files are being stored in (is being created if necessary)
+	 * @param maxSize the maximum size of all stored responses in bytes
+	 * @param maxAge the age after which responses are not being used anymore (or {@code null} if they never expire)
+	 * @throws UncheckedIOException if the segment files can't be opened
+	 * @see #DiskCacheTransport(FandomTransport, File, long, Duration, Predicate)
+	 */
+	public DiskCacheTransport(FandomTransport transport, File directory, long maxSize, Duration maxAge) {
+		this(transport, directory, maxSize, maxAge, PARSE_REQUESTS);
+	}
+	
+	/**
+	 * Creates a new DiskCacheTransport instance. Responses stored by a previous instance in {@code directory} are being reused.
+	 * @param transport the underlying transport
+	 * @param directory the directory the segment files are being stored in (is being created if necessary)
+	 * @param maxSize the maximum size of all stored responses in bytes
+	 * @param maxAge the age after which responses are not being used anymore (or {@code null} if they never expire)
+	 * @param cacheable accepts the URLs whose responses should be cached
+	 * @throws UncheckedIOException if the segment files can't be opened
+	 */
+	public DiskCacheTransport(FandomTransport transport, File directory, long maxSize, Duration maxAge, Predicate<String> cacheable) {
+		if(transport == null) throw new IllegalArgumentException("The transport can't be null");
+		if(maxSize < 1) throw new IllegalArgumentException("The maximum size has to be at least 1 byte");
+		this.transport = transport;
+		this.directory = directory;
+		this.maxSize = maxSize;
+		this.maxAge = maxAge;
+		this.cacheable = cacheable;
+		directory.mkdirs();
+		try {
+			open();
+		} catch(IOException e) {
+			throw new UncheckedIOException("Can't open the cache in " + directory, e);
+		}
+	}
+	
+	/**
+	 * Maps all existing segments and rebuilds the index.
+	 */
+	private synchronized void open() throws IOException {
+		File[] files = directory.listFiles();
+		if(files != null) for(File file : files) {
+			Matcher matcher = SEGMENT_NAME.matcher(file.getName());
+			if(matcher.matches()) segments.put(Integer.parseInt(matcher.group(1)), new Segment(Integer.parseInt(matcher.group(1)), file));
+		}
+		for(Segment segment : segments.values()) scan(segment);
+		active = segments.isEmpty() ? newSegment() : segments.lastEntry().getValue();
+		evict();
+	}
+	
+	/**
+	 * Adds all valid responses of a segment to the index and finds the end of its data. Removed responses are being skipped.
+	 * @param segment the segment
+	 */
+	private void scan(Segment segment) {
+		ByteBuffer buffer = segment.buffer.duplicate();
+		int position = 0;
+		while(position + HEADER_SIZE <= buffer.capacity() && (buffer.getInt(position) == MAGIC || buffer.getInt(position) == DEAD)) {
+			boolean dead = buffer.getInt(position) == DEAD;
+			int keyLength = buffer.getInt(position + 4), bodyLength = buffer.getInt(position + 8);
+			long timestamp = buffer.getLong(position + 12);
+			int length = HEADER_SIZE + keyLength + bodyLength;
+			if(keyLength < 0 || bodyLength < 0 || position + length > buffer.capacity()) break;
+			if(dead || isExpired(timestamp)) {
+				position += length;
+				continue;
+			}
+			byte[] key = new byte[keyLength];
+			buffer.position(position + HEADER_SIZE);
+			buffer.get(key);
+			index(new String(key, StandardCharsets.UTF_8), new Location(segment, position, length, bodyLength, timestamp));
+			position += length;
+		}
+		segment.position = position;
+	}
+	
+	private Segment newSegment() throws IOException {
+		int number = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+		Segment segment = new Segment(number, new File(directory, "segment-" + number + ".dat"));
+		segments.put(number, segment);
+		return segment;
+	}
+	
+	/**
+	 * Returns a stored response.
+	 * @param url the URL
+	 * @return the response or {@code null} if it is not stored (or expired)
+	 */
+	private synchronized byte[] get(String url) {
+		if(closed) return null;
+		Location location = index.get(url);
+		if(location == null) return null;
+		if(isExpired(location.timestamp)) {
+			remove(url);
+			return null;
+		}
+		byte[] body = new byte[location.bodyLength];
+		ByteBuffer buffer = location.segment.buffer.duplicate();
+		buffer.position(location.offset + location.length - location.bodyLength);
+		buffer.get(body);
+		hits.incrementAndGet();
+		return body;
+	}
+	
+	/**
+	 * Stores a response.
+	 * @param url the URL
+	 * @param body the response
+	 */
+	private synchronized void put(String url, byte[] body) {
+		byte[] key = url.getBytes(StandardCharsets.UTF_8);
+		int length = HEADER_SIZE + key.length + body.length;
+		if(closed || length > SEGMENT_SIZE || length > maxSize) return;
+		try {
+			Location location = append(key, body, System.currentTimeMillis());
+			index(url, location);
+			evict();
+		} catch(IOException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+		}
+	}
+	
+	/**
+	 * Appends a response to the current segment (a new segment is being started if it is full).
+	 * The magic number is being written last, so that partially written responses are being ignored by {@link #scan(Segment)}.
+	 */
+	private Location append(byte[] key, byte[] body, long timestamp) throws IOException {
+		int length = HEADER_SIZE + key.length + body.length;
+		if(active.position + length > active.buffer.capacity()) active = newSegment();
+		int position = active.position;
+		ByteBuffer buffer = active.buffer.duplicate();
+		buffer.position(position + HEADER_SIZE);
+		buffer.put(key);
+		buffer.put(body);
+		buffer.putInt(position + 4, key.length);
+		buffer.putInt(position + 8, body.length);
+		buffer.putLong(position + 12, timestamp);
+		buffer.putInt(position, MAGIC);
+		active.position += length;
+		return new Location(active, position, length, body.length, timestamp);
+	}
+	
+	private void index(String url, Location location) {
+		Location previous = index.put(url, location);
+		if(previous != null) release(previous);
+		location.segment.live += location.length;
+		size += location.length;
+	}
+	
+	private void remove(String url) {
+		Location location = index.remove(url);
+		if(location != null) release(location);
+	}
+	
+	/**
+	 * Marks a response as removed within its segment and releases its space.
+	 * @param location the location of the response
+	 */
+	private void release(Location location) {
+		location.segment.buffer.putInt(location.offset, DEAD);
+		location.segment.live -= location.length;
+		size -= location.length;
+	}
+	
+	/**
+	 * Removes the least recently used responses until {@link #maxSize} is being kept, then compacts the segments.
+	 * Every response of a compacted segment is being marked as removed before the segment is being deleted, so that a segment which can't
+	 * be deleted yet (a mapped file can't be deleted on Windows until the mapping has been garbage collected) is being ignored after a restart.
+	 */
+	private void evict() throws IOException {
+		Iterator<Map.Entry<String, Location>> iterator = index.entrySet().iterator();
+		while(size > maxSize && iterator.hasNext()) {
+			Location location = iterator.next().getValue();
+			iterator.remove();
+			release(location);
+		}
+		for(Segment segment : new ArrayList<>(segments.values())) {
+			if(segment == active || segment.live * 2 >= segment.position) continue;
+			for(Map.Entry<String, Location> entry : index.entrySet()) {
+				Location location = entry.getValue();
+				if(location.segment != segment) continue;
+				byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8), body = new byte[location.bodyLength];
+				ByteBuffer buffer = segment.buffer.duplicate();
+				buffer.position(location.offset + location.length - location.bodyLength);
+				buffer.get(body);
+				Location moved = append(key, body, location.timestamp);
+				segment.buffer.putInt(location.offset, DEAD);
+				location.segment = moved.segment;
+				location.offset = moved.offset;
+				moved.segment.live += moved.length;
+			}
+			segments.remove(segment.number);
+			segment.close();
+			obsolete.add(segment.file);
+		}
+		obsolete.removeIf(file -> {
+			if(file.delete() || !file.exists()) return true;
+			file.deleteOnExit();
+			return false;
+		});
+	}
+	
+	private boolean isExpired(long timestamp) {
+		return maxAge != null && System.currentTimeMillis() - timestamp > maxAge.toMillis();
+	}
+	
+	/**
+	 * @param text the response
+	 * @return whether the response is a JSON object with an {@code error} (responses which are no JSON objects are no errors)
+	 */
+	private static boolean isError(String text) {
+		try {
+			return new JSONObject(text).has("error");
+		} catch(JSONException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * @return the amount of requests which have been answered from disk
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+	
+	/**
+	 * @return the amount of stored responses
+	 */
+	public synchronized int getCount() {
+		return index.size();
+	}
+	
+	/**
+	 * @return the size of all stored responses in bytes
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+	
+	@Override
+	public InputStream openStream(String url) {
+		if(!cacheable.test(url)) return transport.openStream(url);
+		byte[] body = get(url);
+		if(body == null) {
+			try(InputStream inputStream = transport.openStream(url)) {
+				body = inputStream.readAllBytes();
+			} catch(IOException e) {
+				if(Fandom.DEBUG) e.printStackTrace();
+				throw new RuntimeException("Something went wrong (set static boolean Fandom.DEBUG to true to print exact stack trace)");
+			}
+			if(!isError(new String(body, StandardCharsets.UTF_8))) put(url, body);
+		}
+		return new ByteArrayInputStream(body);
+	}
+	
+	@Override
+	public String receiveTextFromWebsite(String url) {
+		if(!cacheable.test(url)) return transport.receiveTextFromWebsite(url);
+		byte[] body = get(url);
+		if(body != null) return new String(body, StandardCharsets.UTF_8);
+		String text = transport.receiveTextFromWebsite(url);
+		if(!isError(text)) put(url, text.getBytes(StandardCharsets.UTF_8));
+		return text;
+	}
+	
+	@Override
+	public JSONObject receiveJSONFromWebsite(String url) {
+		if(!cacheable.test(url)) return transport.receiveJSONFromWebsite(url);
+		byte[] body = get(url);
+		if(body != null) return new JSONObject(new String(body, StandardCharsets.UTF_8));
+		String text = transport.receiveTextFromWebsite(url);
+		JSONObject jsonObject = new JSONObject(text);
+		if(!jsonObject.has("error")) put(url, text.getBytes(StandardCharsets.UTF_8));
+		return jsonObject;
+	}
+	
+	@Override
+	public CompletableFuture<String> receiveTextFromWebsiteAsync(String url) {
+		if(!cacheable.test(url)) return transport.receiveTextFromWebsiteAsync(url);
+		byte[] body = get(url);
+		if(body != null) return CompletableFuture.completedFuture(new String(body, StandardCharsets.UTF_8));
+		return transport.receiveTextFromWebsiteAsync(url).thenApply(text -> {
+			if(!isError(text)) put(url, text.getBytes(StandardCharsets.UTF_8));
+			return text;
+		});
+	}
+	
+	@Override
+	public String getRedirect(String url) {
+		return transport.getRedirect(url);
+	}
+	
+	/**
+	 * Writes all segments to disk and closes them. Segments which could not be deleted yet are being deleted when the JVM exits. Requests are being passed to the underlying transport afterwards.
+	 */
+	@Override
+	public synchronized void close() {
+		if(closed) return;
+		closed = true;
+		for(Segment segment : segments.values()) segment.close();
+		index.clear();
+		size = 0;
+	}
+	
+	private static class Segment {
+		
+		private final int number;
+		private final File file;
+		private final FileChannel channel;
+		private MappedByteBuffer buffer;
+		private int position;
+		private long live;
+		
+		private Segment(int number, File file) throws IOException {
+			this.number = number;
+			this.file = file;
+			this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(SEGMENT_SIZE, channel.size()));
+		}
+		
+		/**
+		 * Writes the segment to disk and releases the mapping, so the file can be deleted once the mapping has been garbage collected.
+		 */
+		private void close() {
+			try {
+				buffer.force();
+				buffer = null;
+				channel.close();
+			} catch(IOException e) {
+				if(Fandom.DEBUG) e.printStackTrace();
+			}
+		}
+	
+	}
+	
+	private static class Location {
+		
+		private Segment segment;
+		private int offset;
+		private final int length;
+		private final int bodyLength;
+		private final long timestamp;
+		
+		private Location(Segment segment, int offset, int length, int bodyLength, long timestamp) {
+			this.segment = segment;
+			this.offset = offset;
+			this.length = length;
+			this.bodyLength = bodyLength;
+			this.timestamp = timestamp;
+		}
+	
+	}
+
+}
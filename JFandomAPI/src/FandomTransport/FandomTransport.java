@@ -0,0 +1,121 @@
+package FandomTransport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import Fandom.Fandom;
+import Fandom.Navigator;
+import Fandom.NotFoundException;
+
+/**
+ * A transport sends the requests of a {@link Fandom} and returns the responses.
+ * <p>Every {@link Fandom} instance has its own transport (see {@link Fandom#Fandom(String, FandomTransport)}).
+ * Implementations only need to provide {@link #openStream(String)}, everything else is being built on top of it.
+ * @author Mika Thein
+ * @see HttpTransport
+ * @see LocalTransport
+ * @see Navigator
+ */
+public interface FandomTransport {
+	
+	/**
+	 * The size (in chars) of the buffer responses are being read with.
+	 * @see #openReader(String)
+	 */
+	public static final int BUFFER_SIZE = 8192;
+	
+	/**
+	 * Opens a stream on the response body of a URL.<p>
+	 * <b>The stream has to be closed</b> (e. g. by a try-with-resources statement).
+	 * @param url the URL
+	 * @return a stream on the response body
+	 * @throws NotFoundException if the given URL does not exist
+	 * @see #openReader(String)
+	 */
+	public InputStream openStream(String url);
+	
+	/**
+	 * Opens a (UTF-8) reader on the response body of a URL, buffered by {@link #BUFFER_SIZE} chars.<p>
+	 * <b>The reader has to be closed</b> (e. g. by a try-with-resources statement).
+	 * @param url the URL
+	 * @return a reader on the response body
+	 * @throws NotFoundException if the given URL does not exist
+	 * @see #openStream(String)
+	 */
+	public default BufferedReader openReader(String url) {
+		return new BufferedReader(new InputStreamReader(openStream(url), StandardCharsets.UTF_8), BUFFER_SIZE);
+	}
+	
+	/**
+	 * Receives the whole text from a URL and returns it as String.
+	 * @param url the URL
+	 * @return the web text as String
+	 * @throws NotFoundException if the given URL does not exist
+	 * @see #receiveJSONFromWebsite(String)
+	 */
+	public default String receiveTextFromWebsite(String url) {
+		try(BufferedReader reader = openReader(url)) {
+			StringBuilder text = new StringBuilder();
+			char[] buffer = new char[BUFFER_SIZE];
+			for(int n; (n = reader.read(buffer)) != -1; text.append(buffer, 0, n));
+			return text.toString();
+		} catch(IOException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			throw new RuntimeException("Something went wrong (set static boolean Fandom.DEBUG to true to print exact stack trace)");
+		}
+	}
+	
+	/**
+	 * Receives a JSON object from a URL. The response is being parsed while it is being read, without building a String first.
+	 * @param url the URL
+	 * @return the response as JSONObject
+	 * @throws NotFoundException if the given URL does not exist
+	 * @see #receiveTextFromWebsite(String)
+	 */
+	public default JSONObject receiveJSONFromWebsite(String url) {
+		try(BufferedReader reader = openReader(url)) {
+			return new JSONObject(new JSONTokener(reader));
+		} catch(IOException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			throw new RuntimeException("Something went wrong (set static boolean Fandom.DEBUG to true to print exact stack trace)");
+		}
+	}
+	
+	/**
+	 * Receives the whole text from a URL asynchronously.<p>
+	 * The default implementation runs {@link #receiveTextFromWebsite(String)} on the common pool, network transports should override it.
+	 * @param url the URL
+	 * @return a future completing with the web text
+	 * @see #receiveJSONFromWebsiteAsync(String)
+	 */
+	public default CompletableFuture<String> receiveTextFromWebsiteAsync(String url) {
+		return CompletableFuture.supplyAsync(() -> receiveTextFromWebsite(url));
+	}
+	
+	/**
+	 * Receives a JSON object from a URL asynchronously.
+	 * @param url the URL
+	 * @return a future completing with the response as JSONObject
+	 * @see #receiveTextFromWebsiteAsync(String)
+	 */
+	public default CompletableFuture<JSONObject> receiveJSONFromWebsiteAsync(String url) {
+		return receiveTextFromWebsiteAsync(url).thenApply(JSONObject::new);
+	}
+	
+	/**
+	 * Returns the redirect URL of a given URL (the URL itself by default).
+	 * @param url the URL
+	 * @return the redirect of that URL
+	 */
+	public default String getRedirect(String url) {
+		return url;
+	}
+
+}
@@ -0,0 +1,790 @@
+package FandomTransport;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.json.JSONObject;
+
+import Fandom.Fandom;
+import Fandom.FandomParser;
+import Fandom.Navigator;
+import Fandom.NotFoundException;
+import Fandom.RateLimitException;
+
+/**
+ * The default {@link FandomTransport}, sending requests over the network.
+ * <p>All requests of one instance share one {@link HttpClient}, so connections to the same Fandom host are pooled and kept alive,
+ * multiplexed over HTTP/2 (if the server supports it) and TLS sessions are reused.
+ * <p>Compressed (gzip or deflate) responses are being requested and decompressed while they are being read (see {@link #setCompression(boolean)}).
+ * <p>Requests can be throttled per host (see {@link #setRateLimiter(RateLimiter)}). Throttled responses (HTTP 429 and 503, or MediaWiki's
+ * {@code maxlag} error, see {@link #setMaxLag(int)}) are being retried after the {@code Retry-After} delay or an exponential backoff.
+ * <p>Responses with validators can be revalidated instead of downloaded again (see {@link #setRevalidationCache(RevalidationCache)}).
+ * <p>Every request times out if its response headers or the next data of its body have not been received within 30 seconds
+ * (see {@link #setReadTimeout(Duration)}). Whole calls can be limited
+ * by a deadline (see {@link #setTimeout(Duration)}) and slow calls can be hedged by a second request (see {@link #setHedgeDelay(Duration)}).
+ * @author Mika Thein
+ * @see #HttpTransport()
+ * @see #HttpTransport(HttpClient)
+ */
+public class HttpTransport implements FandomTransport {
+	
+	/**
+	 * The user agent sent with every request.
+	 */
+	public static String USER_AGENT = "JFandomAPI (https://github.com/NeoGames4/JFandomAPI)";
+	
+	/**
+	 * The HttpClient the requests are being sent with.
+	 */
+	public final HttpClient httpClient;
+	private volatile boolean compression = true;
+	private volatile RateLimiter rateLimiter = null;
+	private volatile int maxLag = 0;
+	private volatile int maxRetries = 4;
+	private volatile Duration backoff = Duration.ofMillis(500);
+	private volatile Duration maxBackoff = Duration.ofSeconds(60);
+	private volatile RevalidationCache revalidationCache = null;
+	private volatile Duration readTimeout = Duration.ofSeconds(30);
+	private volatile Duration timeout = null;
+	private volatile Duration hedgeDelay = null;
+	private final Latencies latencies = new Latencies();
+	
+	/**
+	 * Creates a new HttpTransport instance using the shared client of {@link Navigator#getHttpClient()}.
+	 * @see #HttpTransport(HttpClient)
+	 */
+	public HttpTransport() {
+		this(Navigator.getHttpClient());
+	}
+	
+	/**
+	 * Creates a new HttpTransport instance.
+	 * @param httpClient the HttpClient (e. g. to use a proxy, a custom executor or a custom SSL context)
+	 * @see #newHttpClient()
+	 */
+	public HttpTransport(HttpClient httpClient) {
+		if(httpClient == null) throw new IllegalArgumentException("The HttpClient can't be null");
+		this.httpClient = httpClient;
+	}
+	
+	/**
+	 * Creates a new {@link HttpClient} with the default configuration (HTTP/2, redirects are being followed).
+	 * @return a new HttpClient
+	 * @see #HttpTransport(HttpClient)
+	 */
+	static public HttpClient newHttpClient() {
+		return newHttpClient(Duration.ofSeconds(10));
+	}
+	
+	/**
+	 * Creates a new {@link HttpClient} with the default configuration (HTTP/2, redirects are being followed) and a custom connect timeout.
+	 * @param connectTimeout the maximum time to establish a connection
+	 * @return a new HttpClient
+	 * @see #newHttpClient()
+	 * @see #HttpTransport(HttpClient)
+	 */
+	static public HttpClient newHttpClient(Duration connectTimeout) {
+		return HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.connectTimeout(connectTimeout)
+				.build();
+	}
+	
+	/**
+	 * Sets whether compressed (gzip or deflate) responses should be requested. Enabled by default.
+	 * @param compression whether compressed responses should be requested
+	 * @return this instance
+	 */
+	public HttpTransport setCompression(boolean compression) {
+		this.compression = compression;
+		return this;
+	}
+	
+	/**
+	 * @see #setCompression(boolean)
+	 * @return whether compressed responses are being requested
+	 */
+	public boolean getCompression() {
+		return compression;
+	}
+	
+	/**
+	 * Sets the rate limiter all requests have to pass (per host). There is none by default.
+	 * @param rateLimiter the rate limiter (or {@code null} to send requests unthrottled)
+	 * @return this instance
+	 * @see RateLimiter#RateLimiter(double, int)
+	 */
+	public HttpTransport setRateLimiter(RateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+		return this;
+	}
+	
+	/**
+	 * @see #setRateLimiter(RateLimiter)
+	 * @return the rate limiter (might be {@code null})
+	 */
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+	
+	/**
+	 * Sets the MediaWiki {@code maxlag} parameter, which is being added to every {@code api.php} request.
+	 * If the database replication lag of the wiki is higher, the request is being retried later.
+	 * @param seconds the maximum lag in seconds (0 to disable, which is the default)
+	 * @return this instance
+	 */
+	public HttpTransport setMaxLag(int seconds) {
+		this.maxLag = Math.max(seconds, 0);
+		return this;
+	}
+	
+	/**
+	 * @see #setMaxLag(int)
+	 * @return the maximum lag in seconds (0 if disabled)
+	 */
+	public int getMaxLag() {
+		return maxLag;
+	}
+	
+	/**
+	 * Sets how often a throttled request is being retried before a {@link RateLimitException} is being thrown (4 by default).
+	 * @param maxRetries the maximum amount of retries
+	 * @return this instance
+	 * @see #setBackoff(Duration, Duration)
+	 */
+	public HttpTransport setMaxRetries(int maxRetries) {
+		this.maxRetries = Math.max(maxRetries, 0);
+		return this;
+	}
+	
+	/**
+	 * Sets the delay of retries if the server does not send a {@code Retry-After} header.
+	 * The delay is being doubled after every retry (500 milliseconds up to 60 seconds by default).
+	 * @param initial the delay of the first retry
+	 * @param max the maximum delay
+	 * @return this instance
+	 * @see #setMaxRetries(int)
+	 */
+	public HttpTransport setBackoff(Duration initial, Duration max) {
+		this.backoff = initial;
+		this.maxBackoff = max;
+		return this;
+	}
+	
+	/**
+	 * Sets the cache responses with an {@code ETag} or a {@code Last-Modified} date are being stored in.
+	 * Cached URLs are being requested conditionally and served from the cache if they have not been modified. There is none by default.
+	 * @param revalidationCache the revalidation cache (or {@code null} to disable conditional requests)
+	 * @return this instance
+	 * @see RevalidationCache#RevalidationCache(int)
+	 */
+	public HttpTransport setRevalidationCache(RevalidationCache revalidationCache) {
+		this.revalidationCache = revalidationCache;
+		return this;
+	}
+	
+	/**
+	 * @see #setRevalidationCache(RevalidationCache)
+	 * @return the revalidation cache (might be {@code null})
+	 */
+	public RevalidationCache getRevalidationCache() {
+		return revalidationCache;
+	}
+	
+	/**
+	 * Sets how long a single request may wait for the response headers and, while the body is being read, for its next data (30 seconds by default).
+	 * Bodies which have not received any data for that time are being aborted, streams of {@link #openStream(String)} are being closed
+	 * if they have not been read from for that time. The connect timeout is part of the {@link HttpClient} (see {@link #newHttpClient(Duration)}).
+	 * @param readTimeout the timeout (or {@code null} to wait forever)
+	 * @return this instance
+	 * @see #setTimeout(Duration)
+	 */
+	public HttpTransport setReadTimeout(Duration readTimeout) {
+		this.readTimeout = readTimeout;
+		return this;
+	}
+	
+	/**
+	 * @see #setReadTimeout(Duration)
+	 * @return the read timeout (might be {@code null})
+	 */
+	public Duration getReadTimeout() {
+		return readTimeout;
+	}
+	
+	/**
+	 * Sets the deadline of a whole call of {@link #receiveTextFromWebsite(String)}, {@link #receiveJSONFromWebsite(String)} and their asynchronous versions,
+	 * including retries, backoff and reading the body. There is none by default.
+	 * <p>The time remaining until the deadline is being set as timeout of every request (if it is shorter than the read timeout)
+	 * and bodies which are still being received at the deadline are being aborted, so their connections are being closed.
+	 * <p>If a deadline is set, JSON responses are being read as a whole before they are being parsed.
+	 * {@link #openStream(String)} is only being limited by the read timeout.
+	 * @param timeout the deadline (or {@code null} to disable it)
+	 * @return this instance
+	 * @see #setReadTimeout(Duration)
+	 */
+	public HttpTransport setTimeout(Duration timeout) {
+		this.timeout = timeout;
+		return this;
+	}
+	
+	/**
+	 * @see #setTimeout(Duration)
+	 * @return the deadline of a whole call (might be {@code null})
+	 */
+	public Duration getTimeout() {
+		return timeout;
+	}
+	
+	/**
+	 * Enables hedged requests: if a call of {@link #receiveTextFromWebsite(String)}, {@link #receiveJSONFromWebsite(String)} or their asynchronous versions
+	 * has not been answered after the 95th percentile of the recent response times (but at least {@code hedgeDelay}),
+	 * the request is being sent a second time and the first response is being used. Disabled by default.
+	 * @param hedgeDelay the minimum delay before a second request is being sent (or {@code null} to disable hedging)
+	 * @return this instance
+	 */
+	public HttpTransport setHedgeDelay(Duration hedgeDelay) {
+		this.hedgeDelay = hedgeDelay;
+		return this;
+	}
+	
+	/**
+	 * @see #setHedgeDelay(Duration)
+	 * @return the minimum hedge delay (or {@code null} if hedging is disabled)
+	 */
+	public Duration getHedgeDelay() {
+		return hedgeDelay;
+	}
+	
+	@Override
+	public InputStream openStream(String url) {
+		try {
+			RevalidationCache revalidationCache = this.revalidationCache;
+			RevalidationCache.Entry cached = revalidationCache != null ? revalidationCache.get(url) : null;
+			HttpResponse<InputStream> response = send(newRequest(url, cached).GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+			if(cached != null && response.statusCode() == 304) {
+				response.body().close();
+				revalidationCache.revalidated();
+				return new ByteArrayInputStream(cached.body());
+			}
+			if(response.statusCode() >= 400) response.body().close();
+			checkStatus(response);
+			InputStream in = decode(new WatchedInputStream(response.body(), readTimeout, url), response);
+			if(revalidationCache == null || !hasValidators(response)) return in;
+			byte[] body;
+			try(in) {
+				body = in.readAllBytes();
+			}
+			store(revalidationCache, url, response, body);
+			return new ByteArrayInputStream(body);
+		} catch(HttpTimeoutException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			throw new RuntimeException("Timed out while waiting for " + url);
+		} catch(IOException | IllegalArgumentException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			throw new RuntimeException("Something went wrong (set static boolean Fandom.DEBUG to true to print exact stack trace)");
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for " + url);
+		}
+	}
+	
+	@Override
+	public String receiveTextFromWebsite(String url) {
+		if(timeout == null && hedgeDelay == null) return FandomTransport.super.receiveTextFromWebsite(url);
+		try {
+			return receiveTextFromWebsiteAsync(url).join();
+		} catch(CompletionException e) {
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
+	
+	@Override
+	public JSONObject receiveJSONFromWebsite(String url) {
+		if(timeout == null && hedgeDelay == null) return FandomTransport.super.receiveJSONFromWebsite(url);
+		return new JSONObject(receiveTextFromWebsite(url));
+	}
+	
+	/**
+	 * Receives the whole text from a URL without blocking the calling thread.
+	 * @param url the URL
+	 * @return a future completing with the web text (or exceptionally with a {@link NotFoundException} if the given URL does not exist)
+	 */
+	@Override
+	public CompletableFuture<String> receiveTextFromWebsiteAsync(String url) {
+		Duration hedgeDelay = this.hedgeDelay, timeout = this.timeout;
+		Long deadline = timeout != null ? System.nanoTime() + timeout.toNanos() : null;
+		CompletableFuture<String> future = hedgeDelay != null ? hedge(url, hedgeDelay, deadline) : fetch(url, deadline);
+		if(timeout == null) return future;
+		CompletableFuture<String> result = new CompletableFuture<>();
+		future.whenComplete((body, e) -> {
+			if(e != null) result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+			else result.complete(body);
+		});
+		delay(timeout.toNanos()).thenRun(() -> {
+			if(result.completeExceptionally(new RuntimeException("Timed out after " + timeout.toMillis() + " ms while waiting for " + url))) future.cancel(true);
+		});
+		return result;
+	}
+	
+	/**
+	 * Sends the request a second time if the first one has not been answered after the hedge delay and completes with the first response.
+	 * The result only fails once every request has failed.
+	 */
+	private CompletableFuture<String> hedge(String url, Duration hedgeDelay, Long deadline) {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		AtomicInteger pending = new AtomicInteger(1);
+		CompletableFuture<String> first = fetch(url, deadline);
+		first.whenComplete((body, e) -> complete(result, pending, body, e));
+		delay(Math.max(hedgeDelay.toNanos(), latencies.percentile(0.95))).thenRun(() -> {
+			if(result.isDone()) return;
+			pending.incrementAndGet();
+			if(Fandom.DEBUG) System.err.println("[HttpTransport] Hedging " + url);
+			CompletableFuture<String> second = fetch(url, deadline);
+			second.whenComplete((body, e) -> complete(result, pending, body, e));
+			result.whenComplete((body, e) -> {
+				first.cancel(true);
+				second.cancel(true);
+			});
+		});
+		return result;
+	}
+	
+	private static void complete(CompletableFuture<String> result, AtomicInteger pending, String body, Throwable e) {
+		if(e == null) result.complete(body);
+		else if(pending.decrementAndGet() == 0) result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+	}
+	
+	/**
+	 * Sends a single asynchronous request and records its response time.
+	 * @param deadline the {@link System#nanoTime()} of the deadline (or {@code null} if there is none)
+	 */
+	private CompletableFuture<String> fetch(String url, Long deadline) {
+		long start = System.nanoTime();
+		try {
+			RevalidationCache revalidationCache = this.revalidationCache;
+			RevalidationCache.Entry cached = revalidationCache != null ? revalidationCache.get(url) : null;
+			return sendAsync(newRequest(url, cached).GET().build(), watched(HttpResponse.BodyHandlers.ofByteArray(), url, deadline), 0, deadline).thenApply(response -> {
+				if(cached != null && response.statusCode() == 304) {
+					revalidationCache.revalidated();
+					return cached.getText();
+				}
+				checkStatus(response);
+				try(InputStream in = decode(new ByteArrayInputStream(response.body()), response)) {
+					byte[] body = in.readAllBytes();
+					if(revalidationCache != null && hasValidators(response)) store(revalidationCache, url, response, body);
+					latencies.add(System.nanoTime() - start);
+					return new String(body, StandardCharsets.UTF_8);
+				} catch(IOException e) {
+					if(Fandom.DEBUG) e.printStackTrace();
+					throw new RuntimeException("Can't decompress the response of " + url);
+				}
+			}).exceptionally(e -> {
+				Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				if(!(cause instanceof HttpTimeoutException)) throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+				if(Fandom.DEBUG) cause.printStackTrace();
+				throw new RuntimeException("Timed out while waiting for " + url);
+			});
+		} catch(IllegalArgumentException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	@Override
+	public String getRedirect(String url) {
+		url = FandomParser.toURL(url, true);
+		try {
+			HttpResponse<Void> response = send(newRequest(url, null).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.discarding());
+			return response.uri().toString();
+		} catch(IOException | IllegalArgumentException e) {
+			if(Fandom.DEBUG) e.printStackTrace();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return url;
+	}
+	
+	/**
+	 * Sends a request (after passing the rate limiter) and retries it as long as it is being throttled.
+	 */
+	private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException, InterruptedException {
+		String host = request.uri().getHost();
+		for(int attempt = 0;; attempt++) {
+			RateLimiter rateLimiter = this.rateLimiter;
+			if(rateLimiter != null) rateLimiter.acquire(host);
+			HttpResponse<T> response = httpClient.send(request, handler);
+			if(!isThrottled(response)) return response;
+			if(response.body() instanceof InputStream) ((InputStream) response.body()).close();
+			TimeUnit.NANOSECONDS.sleep(retryDelay(response, attempt));
+		}
+	}
+	
+	/**
+	 * Asynchronous version of {@link #send(HttpRequest, HttpResponse.BodyHandler)}, waiting without blocking a thread.
+	 * @param deadline the {@link System#nanoTime()} of the deadline (or {@code null} if there is none)
+	 */
+	private <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler, int attempt, Long deadline) {
+		RateLimiter rateLimiter = this.rateLimiter;
+		long wait = rateLimiter != null ? rateLimiter.reserve(request.uri().getHost()) : 0;
+		return delay(wait).thenCompose(v -> httpClient.sendAsync(limit(request, deadline), handler)).thenCompose(response -> {
+			if(!isThrottled(response)) return CompletableFuture.completedFuture(response);
+			return delay(retryDelay(response, attempt)).thenCompose(v -> sendAsync(request, handler, attempt+1, deadline));
+		});
+	}
+	
+	/**
+	 * Watches the bodies of a body handler, so that they are being aborted once they have not received any data for the read timeout
+	 * or once the deadline has passed.
+	 * @param deadline the {@link System#nanoTime()} of the deadline (or {@code null} if there is none)
+	 */
+	private <T> HttpResponse.BodyHandler<T> watched(HttpResponse.BodyHandler<T> handler, String url, Long deadline) {
+		Duration readTimeout = this.readTimeout;
+		return info -> new WatchedSubscriber<>(handler.apply(info), readTimeout, deadline, url);
+	}
+	
+	/**
+	 * Limits the timeout of a request to the time remaining until the deadline.
+	 * The timeout only covers waiting for the response headers, bodies are being limited by {@link #watched(HttpResponse.BodyHandler, String, Long)}.
+	 * Cancelling the future of {@link HttpClient#sendAsync(HttpRequest, HttpResponse.BodyHandler)} does not abort the exchange.
+	 * @throws CompletionException if the deadline has already passed
+	 */
+	private static HttpRequest limit(HttpRequest request, Long deadline) {
+		if(deadline == null) return request;
+		long remaining = deadline - System.nanoTime();
+		if(remaining <= 0) throw new CompletionException(new HttpTimeoutException("The deadline has passed before " + request.uri() + " could be sent"));
+		Duration timeout = Duration.ofNanos(remaining);
+		if(request.timeout().isPresent() && request.timeout().get().compareTo(timeout) <= 0) return request;
+		return HttpRequest.newBuilder(request, (name, value) -> true).timeout(timeout).build();
+	}
+	
+	private static CompletableFuture<Void> delay(long nanos) {
+		if(nanos <= 0) return CompletableFuture.completedFuture(null);
+		Executor executor = CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS);
+		return CompletableFuture.runAsync(() -> {}, executor);
+	}
+	
+	private boolean isThrottled(HttpResponse<?> response) {
+		return response.statusCode() == 429 || response.statusCode() == 503 || (maxLag > 0 && response.headers().firstValue("X-Database-Lag").isPresent());
+	}
+	
+	/**
+	 * Returns the delay (in nanoseconds) before retrying a throttled response and pauses the host in the rate limiter.
+	 * @throws RateLimitException if there are no retries left
+	 */
+	private long retryDelay(HttpResponse<?> response, int attempt) {
+		if(attempt >= maxRetries) throw new RateLimitException("The server is still throttling requests after " + attempt + " retries (HTTP response code " + response.statusCode() + " for URL " + response.request().uri() + ")");
+		long delay = -1;
+		String retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+		if(retryAfter != null) {
+			try {
+				delay = TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+			} catch(NumberFormatException e) {
+				try {
+					delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)).toNanos();
+				} catch(Exception ex) {
+					if(Fandom.DEBUG) ex.printStackTrace();
+				}
+			}
+		}
+		if(delay < 0) {
+			long exponential = backoff.toNanos() << Math.min(attempt, 30);
+			delay = Math.min(exponential < 0 ? Long.MAX_VALUE : exponential, maxBackoff.toNanos());
+			delay += ThreadLocalRandom.current().nextLong(delay/4 + 1);
+		}
+		if(Fandom.DEBUG) System.err.println("[HttpTransport] Throttled (HTTP " + response.statusCode() + "), retrying " + response.request().uri() + " in " + TimeUnit.NANOSECONDS.toMillis(delay) + " ms");
+		RateLimiter rateLimiter = this.rateLimiter;
+		if(rateLimiter != null) rateLimiter.pause(response.request().uri().getHost(), delay);
+		return delay;
+	}
+	
+	private static void checkStatus(HttpResponse<?> response) {
+		if(response.statusCode() == 404 || response.statusCode() == 410) throw new NotFoundException("The given URL does not exist");
+		if(response.statusCode() >= 400) throw new RuntimeException("Server returned HTTP response code " + response.statusCode() + " for URL " + response.uri());
+	}
+	
+	/**
+	 * Wraps the body in a decompressing stream, depending on the {@code Content-Encoding} of the response.
+	 * Deflate bodies are being accepted both zlib-wrapped and raw.
+	 */
+	private static InputStream decode(InputStream body, HttpResponse<?> response) throws IOException {
+		String encoding = response.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase();
+		switch(encoding) {
+			case "gzip":
+			case "x-gzip":
+				return new GZIPInputStream(body, BUFFER_SIZE);
+			case "deflate":
+				PushbackInputStream in = new PushbackInputStream(body, 2);
+				byte[] header = new byte[2];
+				int n = in.readNBytes(header, 0, 2);
+				if(n > 0) in.unread(header, 0, n);
+				boolean zlib = n == 2 && (header[0] & 0x0F) == 8 && ((header[0] & 0xFF) << 8 | (header[1] & 0xFF)) % 31 == 0;
+				Inflater inflater = new Inflater(!zlib);
+				return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+					@Override
+					public void close() throws IOException {
+						super.close();
+						inflater.end();
+					}
+				};
+			default:
+				return body;
+		}
+	}
+	
+	private static boolean hasValidators(HttpResponse<?> response) {
+		if(response.statusCode() != 200) return false;
+		if(response.headers().allValues("Cache-Control").stream().anyMatch(value -> value.toLowerCase().contains("no-store"))) return false;
+		return response.headers().firstValue("ETag").isPresent() || response.headers().firstValue("Last-Modified").isPresent();
+	}
+	
+	private static void store(RevalidationCache revalidationCache, String url, HttpResponse<?> response, byte[] body) {
+		revalidationCache.put(url, new RevalidationCache.Entry(response.headers().firstValue("ETag").orElse(null), response.headers().firstValue("Last-Modified").orElse(null), body));
+	}
+	
+	/**
+	 * Creates a request builder with the default headers, conditional if there is a cached response.
+	 */
+	private HttpRequest.Builder newRequest(String url, RevalidationCache.Entry cached) {
+		if(maxLag > 0 && url.contains("/api.php")) url += (url.contains("?") ? "&" : "?") + "maxlag=" + maxLag;
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).header("User-Agent", USER_AGENT);
+		if(compression) builder.header("Accept-Encoding", "gzip, deflate");
+		Duration readTimeout = this.readTimeout;
+		if(readTimeout != null) builder.timeout(readTimeout);
+		if(cached != null && cached.eTag != null) builder.header("If-None-Match", cached.eTag);
+		if(cached != null && cached.lastModified != null) builder.header("If-Modified-Since", cached.lastModified);
+		return builder;
+	}
+	
+	/**
+	 * Aborts a response body once it has not received any data for the read timeout or once the deadline has passed.
+	 */
+	private static class Watchdog {
+		
+		private final Long readTimeout;
+		private final Long deadline;
+		private final Runnable abort;
+		private volatile long lastProgress = System.nanoTime();
+		private volatile boolean finished = false, expired = false;
+		
+		/**
+		 * @param readTimeout the read timeout (or {@code null} if there is none)
+		 * @param deadline the {@link System#nanoTime()} of the deadline (or {@code null} if there is none)
+		 * @param abort aborts the body
+		 */
+		Watchdog(Duration readTimeout, Long deadline, Runnable abort) {
+			this.readTimeout = readTimeout != null ? readTimeout.toNanos() : null;
+			this.deadline = deadline;
+			this.abort = abort;
+			check();
+		}
+		
+		void progress() {
+			lastProgress = System.nanoTime();
+		}
+		
+		void finish() {
+			finished = true;
+		}
+		
+		boolean isExpired() {
+			return expired;
+		}
+		
+		private void check() {
+			if(finished) return;
+			long now = System.nanoTime(), remaining = Long.MAX_VALUE;
+			if(readTimeout != null) remaining = lastProgress + readTimeout - now;
+			if(deadline != null) remaining = Math.min(remaining, deadline - now);
+			if(remaining == Long.MAX_VALUE) return;
+			if(remaining > 0) {
+				delay(remaining).thenRun(this::check);
+				return;
+			}
+			expired = true;
+			abort.run();
+		}
+	
+	}
+	
+	/**
+	 * A response body stream which is being closed once it has not been read from for the read timeout.
+	 * Reading it afterwards throws an {@link HttpTimeoutException}.
+	 */
+	private static class WatchedInputStream extends FilterInputStream {
+		
+		private final String url;
+		private final Watchdog watchdog;
+		
+		WatchedInputStream(InputStream in, Duration readTimeout, String url) {
+			super(in);
+			this.url = url;
+			this.watchdog = new Watchdog(readTimeout, null, this::abort);
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b;
+			try {
+				b = super.read();
+			} catch(IOException e) {
+				throw watchdog.isExpired() ? timedOut() : e;
+			}
+			progress(b == -1 ? -1 : 1);
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			try {
+				return progress(super.read(b, off, len));
+			} catch(IOException e) {
+				throw watchdog.isExpired() ? timedOut() : e;
+			}
+		}
+		
+		private int progress(int n) throws IOException {
+			if(watchdog.isExpired()) throw timedOut();
+			if(n == -1) watchdog.finish();
+			else watchdog.progress();
+			return n;
+		}
+		
+		private HttpTimeoutException timedOut() {
+			return new HttpTimeoutException("Timed out while reading the response of " + url);
+		}
+		
+		private void abort() {
+			try {
+				in.close();
+			} catch(IOException e) {
+				if(Fandom.DEBUG) e.printStackTrace();
+			}
+		}
+		
+		@Override
+		public void close() throws IOException {
+			watchdog.finish();
+			super.close();
+		}
+	
+	}
+	
+	/**
+	 * A body subscriber which cancels its subscription (closing the connection) and fails with an {@link HttpTimeoutException}
+	 * once it has not received any data for the read timeout or once the deadline has passed.
+	 */
+	private static class WatchedSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+		
+		private final HttpResponse.BodySubscriber<T> subscriber;
+		private final CompletableFuture<T> body = new CompletableFuture<>();
+		private final Duration readTimeout;
+		private final Long deadline;
+		private final String url;
+		private volatile Flow.Subscription subscription;
+		private volatile Watchdog watchdog;
+		
+		WatchedSubscriber(HttpResponse.BodySubscriber<T> subscriber, Duration readTimeout, Long deadline, String url) {
+			this.subscriber = subscriber;
+			this.readTimeout = readTimeout;
+			this.deadline = deadline;
+			this.url = url;
+			subscriber.getBody().whenComplete((value, e) -> {
+				if(e != null) body.completeExceptionally(e);
+				else body.complete(value);
+			});
+		}
+		
+		@Override
+		public CompletionStage<T> getBody() {
+			return body;
+		}
+		
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			watchdog = new Watchdog(readTimeout, deadline, this::abort);
+			subscriber.onSubscribe(subscription);
+		}
+		
+		@Override
+		public void onNext(List<ByteBuffer> item) {
+			watchdog.progress();
+			subscriber.onNext(item);
+		}
+		
+		@Override
+		public void onError(Throwable throwable) {
+			watchdog.finish();
+			subscriber.onError(throwable);
+		}
+		
+		@Override
+		public void onComplete() {
+			watchdog.finish();
+			subscriber.onComplete();
+		}
+		
+		private void abort() {
+			subscription.cancel();
+			body.completeExceptionally(new HttpTimeoutException("Timed out while reading the response of " + url));
+		}
+	
+	}
+	
+	/**
+	 * The most recent response times, used for the hedge delay.
+	 */
+	private static class Latencies {
+		
+		private final long[] samples = new long[128];
+		private int count = 0, next = 0;
+		
+		synchronized void add(long nanos) {
+			samples[next] = nanos;
+			next = (next+1) % samples.length;
+			if(count < samples.length) count++;
+		}
+		
+		/**
+		 * @return the percentile of the recent response times in nanoseconds (0 if there are not enough samples yet)
+		 */
+		synchronized long percentile(double percentile) {
+			int n = count;
+			if(n < 20) return 0;
+			long[] sorted = Arrays.copyOf(samples, n);
+			Arrays.sort(sorted);
+			return sorted[Math.min(n-1, (int) (percentile * n))];
+		}
+	
+	}
+
+}
@@ -0,0 +1,226 @@
+package FandomTransport;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import Fandom.Fandom;
+import Fandom.NotFoundException;
+
+/**
+ * A {@link FandomTransport} serving canned responses from memory, without any network access.
+ * <p>It can be used to benchmark or test parsing and listener dispatch offline.
+ * Responses are being matched by URL, regardless of the scheme and the order of the query parameters.
+ * URLs without a response are being answered with a {@link NotFoundException}.
+ * If a URL has several responses, they are being served in order and the last one is being repeated (see {@link #add(String, String)}).
+ * <p>Example:
+ * <blockquote><pre>
+ * LocalTransport transport = new LocalTransport()
+ *     .put("https://disney.fandom.com/api.php?action=query&amp;meta=siteinfo&amp;siprop=general|rightsinfo&amp;format=json", siteInfo);
+ * Fandom fandom = new Fandom("disney.fandom.com", transport);
+ * </pre></blockquote>
+ * @author Mika Thein
+ * @see #put(String, String)
+ * @see #load(File)
+ * @see RecordingTransport
+ * @see Fandom#Fandom(String, FandomTransport)
+ */
+public class LocalTransport implements FandomTransport {
+	
+	private final ConcurrentHashMap<String, Responses> responses = new ConcurrentHashMap<>();
+	private final AtomicLong requests = new AtomicLong();
+	
+	/**
+	 * Creates a new (empty) LocalTransport instance.
+	 * @see #put(String, String)
+	 * @see #LocalTransport(File)
+	 */
+	public LocalTransport() {}
+	
+	/**
+	 * Creates a new LocalTransport instance serving the responses of a file.
+	 * @param file a JSON file (see {@link #load(File)})
+	 * @throws IOException if the file can't be read
+	 * @see #load(File)
+	 */
+	public LocalTransport(File file) throws IOException {
+		load(file);
+	}
+	
+	/**
+	 * Adds (or replaces) the response of a URL.
+	 * @param url the URL
+	 * @param body the response body
+	 * @return this instance
+	 * @see #load(File)
+	 */
+	public LocalTransport put(String url, String body) {
+		responses.put(toKey(url), new Responses(body));
+		return this;
+	}
+	
+	/**
+	 * Adds a further response of a URL, which is being served after the previous ones.
+	 * @param url the URL
+	 * @param body the response body
+	 * @return this instance
+	 * @see #put(String, String)
+	 */
+	public LocalTransport add(String url, String body) {
+		responses.computeIfAbsent(toKey(url), key -> new Responses()).add(body);
+		return this;
+	}
+	
+	/**
+	 * Adds all responses of a file.
+	 * @param file a JSON file containing an object with URLs as keys and response bodies as values.
+	 * A value is either a String or an array of Strings (which are being served in order). Files ending with {@code .gz} are being decompressed.
+	 * @return this instance
+	 * @throws IOException if the file can't be read
+	 * @see #put(String, String)
+	 * @see RecordingTransport#save(File)
+	 */
+	public LocalTransport load(File file) throws IOException {
+		InputStream in = new FileInputStream(file);
+		if(file.getName().endsWith(".gz")) in = new GZIPInputStream(in, BUFFER_SIZE);
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+			JSONObject jsonObject = new JSONObject(new JSONTokener(reader));
+			Iterator<String> iterator = jsonObject.keys();
+			while(iterator.hasNext()) {
+				String url = iterator.next();
+				JSONArray bodies = jsonObject.optJSONArray(url);
+				if(bodies == null) {
+					put(url, jsonObject.getString(url));
+					continue;
+				}
+				responses.remove(toKey(url));
+				for(int i = 0; i<bodies.length(); i++) add(url, bodies.getString(i));
+			}
+		} finally {
+			in.close();
+		}
+		return this;
+	}
+	
+	/**
+	 * Serves the responses of every URL from the beginning again (e. g. to replay a recording repeatedly).
+	 * @return this instance
+	 */
+	public LocalTransport rewind() {
+		for(Responses response : responses.values()) response.next.set(0);
+		return this;
+	}
+	
+	/**
+	 * @param url the URL
+	 * @return whether there is a response for {@code url}
+	 */
+	public boolean contains(String url) {
+		return responses.containsKey(toKey(url));
+	}
+	
+	/**
+	 * @return the amount of responses
+	 */
+	public int size() {
+		return responses.size();
+	}
+	
+	/**
+	 * @return the amount of requests served (or rejected) since the creation of this instance
+	 */
+	public long getRequestCount() {
+		return requests.get();
+	}
+	
+	@Override
+	public InputStream openStream(String url) {
+		return new ByteArrayInputStream(receiveTextFromWebsite(url).getBytes(StandardCharsets.UTF_8));
+	}
+	
+	@Override
+	public String receiveTextFromWebsite(String url) {
+		requests.incrementAndGet();
+		Responses response = responses.get(toKey(url));
+		String body = response != null ? response.next() : null;
+		if(body == null) {
+			if(Fandom.DEBUG) System.err.println("[LocalTransport] No response for " + url);
+			throw new NotFoundException("The given URL does not exist");
+		}
+		return body;
+	}
+	
+	@Override
+	public JSONObject receiveJSONFromWebsite(String url) {
+		return new JSONObject(receiveTextFromWebsite(url));
+	}
+	
+	@Override
+	public CompletableFuture<String> receiveTextFromWebsiteAsync(String url) {
+		try {
+			return CompletableFuture.completedFuture(receiveTextFromWebsite(url));
+		} catch(RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	/**
+	 * Returns the key a URL is being matched with: the URL without scheme and with sorted query parameters.
+	 * @param url the URL
+	 * @return the key
+	 */
+	static public String toKey(String url) {
+		String key = url.replaceFirst("^[a-zA-Z]+://", "");
+		int query = key.indexOf('?');
+		if(query < 0) return key;
+		String[] parameters = key.substring(query+1).split("&");
+		Arrays.sort(parameters);
+		return key.substring(0, query+1) + String.join("&", parameters);
+	}
+	
+	/**
+	 * The responses of a URL.
+	 */
+	private static class Responses {
+		
+		private final List<String> bodies = new ArrayList<>();
+		private final AtomicInteger next = new AtomicInteger();
+		
+		Responses() {}
+		
+		Responses(String body) {
+			bodies.add(body);
+		}
+		
+		synchronized void add(String body) {
+			bodies.add(body);
+		}
+		
+		synchronized String next() {
+			if(bodies.isEmpty()) return null;
+			int index = Math.min(next.get(), bodies.size()-1);
+			next.set(index+1);
+			return bodies.get(index);
+		}
+	
+	}
+
+}
@@ -0,0 +1,118 @@
+package FandomTransport;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket rate limiter with one bucket per host.
+ * <p>Every host may send {@code burst} requests at once and {@code requestsPerSecond} requests per second on average.
+ * Requests exceeding the limit are not being rejected, but delayed.
+ * @author Mika Thein
+ * @see HttpTransport#setRateLimiter(RateLimiter)
+ * @see #RateLimiter(double, int)
+ */
+public class RateLimiter {
+	
+	/**
+	 * The default amount of requests per second of every host.
+	 */
+	public final double requestsPerSecond;
+	/**
+	 * The default amount of requests every host may send at once.
+	 */
+	public final int burst;
+	
+	private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+	
+	/**
+	 * Creates a new RateLimiter instance.
+	 * @param requestsPerSecond the average amount of requests per second (per host)
+	 * @param burst the amount of requests which may be sent at once (per host)
+	 * @see #setLimit(String, double, int)
+	 */
+	public RateLimiter(double requestsPerSecond, int burst) {
+		if(requestsPerSecond <= 0) throw new IllegalArgumentException("The amount of requests per second has to be positive");
+		if(burst < 1) throw new IllegalArgumentException("The burst has to be at least 1");
+		this.requestsPerSecond = requestsPerSecond;
+		this.burst = burst;
+	}
+	
+	/**
+	 * Sets a different limit for a single host.
+	 * @param host the host (like {@code disney.fandom.com})
+	 * @param requestsPerSecond the average amount of requests per second
+	 * @param burst the amount of requests which may be sent at once
+	 * @return this instance
+	 */
+	public RateLimiter setLimit(String host, double requestsPerSecond, int burst) {
+		if(requestsPerSecond <= 0) throw new IllegalArgumentException("The amount of requests per second has to be positive");
+		if(burst < 1) throw new IllegalArgumentException("The burst has to be at least 1");
+		buckets.put(host, new Bucket(requestsPerSecond, burst));
+		return this;
+	}
+	
+	/**
+	 * Reserves a request for {@code host} and returns how long the caller has to wait before sending it.
+	 * The reservation can't be undone, so the request should be sent afterwards.
+	 * @param host the host
+	 * @return the time to wait in nanoseconds (0 if the request may be sent immediately)
+	 * @see #acquire(String)
+	 */
+	public long reserve(String host) {
+		return bucket(host).reserve();
+	}
+	
+	/**
+	 * Blocks until a request for {@code host} may be sent.
+	 * @param host the host
+	 * @throws InterruptedException if the thread has been interrupted while waiting
+	 * @see #reserve(String)
+	 */
+	public void acquire(String host) throws InterruptedException {
+		long wait = reserve(host);
+		if(wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+	}
+	
+	/**
+	 * Delays all further requests for {@code host} (e. g. after the server asked to retry later).
+	 * @param host the host
+	 * @param nanos the time in nanoseconds
+	 */
+	public void pause(String host, long nanos) {
+		bucket(host).pause(nanos);
+	}
+	
+	private Bucket bucket(String host) {
+		return buckets.computeIfAbsent(host == null ? "" : host, h -> new Bucket(requestsPerSecond, burst));
+	}
+	
+	private static class Bucket {
+		
+		private final double tokensPerNano;
+		private final int burst;
+		private double tokens;
+		private long last = System.nanoTime();
+		private long pausedUntil = last;
+		
+		Bucket(double requestsPerSecond, int burst) {
+			this.tokensPerNano = requestsPerSecond / 1e9;
+			this.burst = burst;
+			this.tokens = burst;
+		}
+		
+		synchronized long reserve() {
+			long now = System.nanoTime();
+			tokens = Math.min(burst, tokens + (now - last) * tokensPerNano);
+			last = now;
+			tokens -= 1;
+			long wait = tokens >= 0 ? 0 : (long) (-tokens / tokensPerNano);
+			return Math.max(wait, pausedUntil - now);
+		}
+		
+		synchronized void pause(long nanos) {
+			pausedUntil = Math.max(pausedUntil, System.nanoTime() + nanos);
+		}
+	
+	}
+
+}
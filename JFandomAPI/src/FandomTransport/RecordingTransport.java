@@ -0,0 +1,149 @@
+package FandomTransport;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import Fandom.Navigator;
+
+/**
+ * A {@link FandomTransport} recording every response of the underlying transport, so it can be saved as a cassette and replayed by a {@link LocalTransport}.
+ * <p>Cassettes are JSON files in the format of {@link LocalTransport#load(File)}. Responses of a URL which has been requested several times are being
+ * replayed in the order they have been recorded in.
+ * <p>Example:
+ * <blockquote><pre>
+ * RecordingTransport recorder = new RecordingTransport(new HttpTransport());
+ * Navigator.setDefaultTransport(recorder);
+ * // ...
+ * recorder.save(new File("session.json.gz"));
+ * Navigator.setDefaultTransport(new LocalTransport(new File("session.json.gz")));
+ * </pre></blockquote>
+ * @author Mika Thein
+ * @see #RecordingTransport(FandomTransport)
+ * @see Navigator#setDefaultTransport(FandomTransport)
+ */
+public class RecordingTransport implements FandomTransport {
+	
+	/**
+	 * The underlying transport.
+	 */
+	public final FandomTransport transport;
+	
+	private final LinkedHashMap<String, List<String>> recordings = new LinkedHashMap<>();
+	
+	/**
+	 * Creates a new RecordingTransport instance.
+	 * @param transport the underlying transport
+	 */
+	public RecordingTransport(FandomTransport transport) {
+		if(transport == null) throw new IllegalArgumentException("The transport can't be null");
+		this.transport = transport;
+	}
+	
+	/**
+	 * Saves all recorded responses as a cassette. Files ending with {@code .gz} are being compressed.
+	 * @param file the file
+	 * @throws IOException if the file can't be written
+	 * @see LocalTransport#LocalTransport(File)
+	 */
+	public void save(File file) throws IOException {
+		JSONObject cassette = new JSONObject();
+		synchronized(recordings) {
+			for(Map.Entry<String, List<String>> recording : recordings.entrySet()) {
+				List<String> bodies = recording.getValue();
+				if(bodies.size() == 1) cassette.put(recording.getKey(), bodies.get(0));
+				else cassette.put(recording.getKey(), new JSONArray(bodies));
+			}
+		}
+		OutputStream out = new FileOutputStream(file);
+		if(file.getName().endsWith(".gz")) out = new GZIPOutputStream(out, BUFFER_SIZE);
+		try(BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+			cassette.write(writer);
+		} finally {
+			out.close();
+		}
+	}
+	
+	/**
+	 * Returns a {@link LocalTransport} serving the recorded responses, without saving them first.
+	 * @return a LocalTransport replaying this recording
+	 */
+	public LocalTransport toLocalTransport() {
+		LocalTransport localTransport = new LocalTransport();
+		synchronized(recordings) {
+			for(Map.Entry<String, List<String>> recording : recordings.entrySet()) {
+				for(String body : recording.getValue()) localTransport.add(recording.getKey(), body);
+			}
+		}
+		return localTransport;
+	}
+	
+	/**
+	 * @return the amount of recorded responses
+	 */
+	public int size() {
+		synchronized(recordings) {
+			return recordings.values().stream().mapToInt(List::size).sum();
+		}
+	}
+	
+	/**
+	 * Removes all recorded responses.
+	 */
+	public void clear() {
+		synchronized(recordings) {
+			recordings.clear();
+		}
+	}
+	
+	private String record(String url, String body) {
+		synchronized(recordings) {
+			recordings.computeIfAbsent(url, key -> new ArrayList<>()).add(body);
+		}
+		return body;
+	}
+	
+	/**
+	 * Reads the whole response, as it has to be recorded.
+	 */
+	@Override
+	public InputStream openStream(String url) {
+		return new ByteArrayInputStream(receiveTextFromWebsite(url).getBytes(StandardCharsets.UTF_8));
+	}
+	
+	@Override
+	public String receiveTextFromWebsite(String url) {
+		return record(url, transport.receiveTextFromWebsite(url));
+	}
+	
+	@Override
+	public JSONObject receiveJSONFromWebsite(String url) {
+		return new JSONObject(receiveTextFromWebsite(url));
+	}
+	
+	@Override
+	public CompletableFuture<String> receiveTextFromWebsiteAsync(String url) {
+		return transport.receiveTextFromWebsiteAsync(url).thenApply(body -> record(url, body));
+	}
+	
+	@Override
+	public String getRedirect(String url) {
+		return transport.getRedirect(url);
+	}
+
+}
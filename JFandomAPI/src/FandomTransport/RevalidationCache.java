@@ -0,0 +1,145 @@
+package FandomTransport;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of responses carrying validators ({@code ETag} or {@code Last-Modified}), used by {@link HttpTransport} for conditional requests.
+ * <p>Cached URLs are being requested with {@code If-None-Match} and {@code If-Modified-Since}. If the server answers with
+ * {@code 304 Not Modified}, the cached body is being returned instead of downloading it again.
+ * The least recently used responses are being removed once there are more than {@link #maxEntries}.
+ * @author Mika Thein
+ * @see HttpTransport#setRevalidationCache(RevalidationCache)
+ * @see #RevalidationCache(int)
+ */
+public class RevalidationCache {
+	
+	/**
+	 * The maximum amount of responses.
+	 */
+	public final int maxEntries;
+	
+	private final LinkedHashMap<String, Entry> entries;
+	private final AtomicLong revalidated = new AtomicLong();
+	
+	/**
+	 * Creates a new RevalidationCache instance.
+	 * @param maxEntries the maximum amount of responses
+	 */
+	public RevalidationCache(int maxEntries) {
+		if(maxEntries < 1) throw new IllegalArgumentException("The maximum amount of entries has to be at least 1");
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > RevalidationCache.this.maxEntries;
+			}
+		};
+	}
+	
+	/**
+	 * @param url the URL
+	 * @return the cached response of {@code url} (or {@code null} if there is none)
+	 */
+	public synchronized Entry get(String url) {
+		return entries.get(url);
+	}
+	
+	/**
+	 * Adds (or replaces) the response of a URL.
+	 * @param url the URL
+	 * @param entry the response
+	 */
+	public synchronized void put(String url, Entry entry) {
+		entries.put(url, entry);
+	}
+	
+	/**
+	 * Removes the response of a URL.
+	 * @param url the URL
+	 */
+	public synchronized void remove(String url) {
+		entries.remove(url);
+	}
+	
+	/**
+	 * Removes all responses.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+	
+	/**
+	 * @return the amount of responses
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * @return the amount of requests which have been answered with {@code 304 Not Modified} (and served from this cache)
+	 */
+	public long getRevalidatedCount() {
+		return revalidated.get();
+	}
+	
+	void revalidated() {
+		revalidated.incrementAndGet();
+	}
+	
+	/**
+	 * A cached response.
+	 * @author Mika Thein
+	 */
+	public static class Entry {
+		
+		/**
+		 * The {@code ETag} of the response (might be {@code null}).
+		 */
+		public final String eTag;
+		/**
+		 * The {@code Last-Modified} date of the response (might be {@code null}).
+		 */
+		public final String lastModified;
+		/**
+		 * The time the response has been received at (in milliseconds).
+		 */
+		public final long timestamp;
+		private final byte[] body;
+		
+		/**
+		 * @param eTag the {@code ETag} of the response (might be {@code null})
+		 * @param lastModified the {@code Last-Modified} date of the response (might be {@code null})
+		 * @param body the (decompressed) response body
+		 */
+		public Entry(String eTag, String lastModified, byte[] body) {
+			this.eTag = eTag;
+			this.lastModified = lastModified;
+			this.timestamp = System.currentTimeMillis();
+			this.body = body;
+		}
+		
+		/**
+		 * @return the (decompressed) response body
+		 */
+		public byte[] getBody() {
+			return body.clone();
+		}
+		
+		/**
+		 * @return the response body as (UTF-8) String
+		 */
+		public String getText() {
+			return new String(body, StandardCharsets.UTF_8);
+		}
+		
+		byte[] body() {
+			return body;
+		}
+	
+	}
+
+}